@@ -0,0 +1,25 @@
+package it.units.italiandraughts.logic;
+
+public enum BenchmarkPosition {
+    // after 1. 22-18 12-16 2. 23-19 8-12
+    OPENING("W:W18,19,21,24,25,26,27,28,29,30,31,32:B1,2,3,4,5,6,7,9,10,11,12,16"),
+    MIDDLEGAME("B:W17,18,21,K22,25,26,27,29,30,31:B1,2,3,5,6,K10,11,13,14"),
+    ENDGAME("W:W19,K22,K27:B5,K10,K14");
+
+    private static final int MAX_PIECES_PER_SIDE = 12;
+
+    private final String fen;
+
+    BenchmarkPosition(String fen) {
+        BitBoard bitBoard = BitBoard.fromFen(fen);
+        if (Integer.bitCount(bitBoard.getWhiteMen() | bitBoard.getWhiteKings()) > MAX_PIECES_PER_SIDE
+                || Integer.bitCount(bitBoard.getBlackMen() | bitBoard.getBlackKings()) > MAX_PIECES_PER_SIDE) {
+            throw new IllegalStateException("More than " + MAX_PIECES_PER_SIDE + " pieces per side in " + fen);
+        }
+        this.fen = fen;
+    }
+
+    public BitBoard toBitBoard() {
+        return BitBoard.fromFen(fen);
+    }
+}
@@ -0,0 +1,57 @@
+package it.units.italiandraughts.logic;
+
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class BoardBenchmark {
+
+    @Param
+    public BenchmarkPosition position;
+
+    private BitBoard bitBoard;
+    private Board board;
+    private BlackTile center;
+    private BlackTile neighbor;
+    private BlackTile farTile;
+
+    @Setup
+    public void setUp() {
+        bitBoard = position.toBitBoard();
+        board = bitBoard.toBoard();
+        center = BlackTile.asBlackTile(board.getTiles()[4][4]);
+        neighbor = BlackTile.asBlackTile(board.getTiles()[3][5]);
+        farTile = BlackTile.asBlackTile(board.getTiles()[0][0]);
+    }
+
+    @Benchmark
+    public Board newBoard() {
+        return new Board();
+    }
+
+    @Benchmark
+    public Board toBoard() {
+        return bitBoard.toBoard();
+    }
+
+    @Benchmark
+    public BitBoard fromBoard() {
+        return BitBoard.fromBoard(board, bitBoard.getSideToMove());
+    }
+
+    @Benchmark
+    public void isNeighbor(Blackhole blackhole) {
+        blackhole.consume(center.isNeighbor(neighbor));
+        blackhole.consume(center.isNeighbor(farTile));
+    }
+
+    @Benchmark
+    public String getNeighborKey() {
+        return center.getNeighborKey(neighbor);
+    }
+
+}
@@ -0,0 +1,32 @@
+package it.units.italiandraughts.logic;
+
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class EvaluationBenchmark {
+
+    @Param
+    public BenchmarkPosition position;
+
+    private BitBoard bitBoard;
+
+    @Setup
+    public void setUp() {
+        bitBoard = position.toBitBoard();
+    }
+
+    @Benchmark
+    public int evaluate() {
+        return Evaluation.evaluate(bitBoard);
+    }
+
+    @Benchmark
+    public int evaluateFromScratch() {
+        return Evaluation.getBreakdown(bitBoard).getTotal();
+    }
+
+}
@@ -0,0 +1,47 @@
+package it.units.italiandraughts.logic;
+
+import org.openjdk.jmh.annotations.*;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class MoveBenchmark {
+
+    @Param
+    public BenchmarkPosition position;
+
+    private BitBoard bitBoard;
+    private Board board;
+    private Piece piece;
+    private List<BlackTile> steps;
+    private final MoveList moves = new MoveList();
+
+    @Setup
+    public void setUp() {
+        bitBoard = position.toBitBoard();
+        board = bitBoard.toBoard();
+        new MoveGenerator().generate(bitBoard, moves);
+        steps = moves.getSteps(0, board);
+        piece = steps.get(0).getPiece();
+    }
+
+    @Benchmark
+    public Move makeAndUndo() {
+        Move move = new Move(board, piece, steps.get(0), steps.get(steps.size() - 1), steps);
+        move.make();
+        move.undo();
+        return move;
+    }
+
+    @Benchmark
+    public long makeAndUndoBitBoard() {
+        moves.makeMove(bitBoard, 0);
+        long key = bitBoard.getZobristKey();
+        moves.undoMove(bitBoard, 0);
+        return key;
+    }
+
+}
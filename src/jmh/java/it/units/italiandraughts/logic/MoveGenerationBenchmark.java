@@ -0,0 +1,62 @@
+package it.units.italiandraughts.logic;
+
+import org.openjdk.jmh.annotations.*;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class MoveGenerationBenchmark {
+
+    @Param
+    public BenchmarkPosition position;
+
+    private BitBoard bitBoard;
+    private Board board;
+    private final MoveGenerator moveGenerator = new MoveGenerator();
+    private final MoveList moves = new MoveList();
+
+    @Setup
+    public void setUp() {
+        bitBoard = position.toBitBoard();
+        board = bitBoard.toBoard();
+    }
+
+    @Benchmark
+    public int generate() {
+        return moveGenerator.generate(bitBoard, moves);
+    }
+
+    // the work Game.updateAbsoluteLongestPath does on every turn
+    @Benchmark
+    public List<List<BlackTile>> absoluteLongestPaths() {
+        int count = moveGenerator.generate(BitBoard.fromBoard(board, bitBoard.getSideToMove()), moves);
+        List<List<BlackTile>> paths = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            paths.add(moves.getSteps(i, board));
+        }
+        return paths;
+    }
+
+    // a full rescan, the work MovabilityTracker saves on every turn
+    @Benchmark
+    public int updateMovable() {
+        int movable = 0;
+        for (Tile[] row : board.getTiles()) {
+            for (Tile tile : row) {
+                if (!tile.isEmpty()) {
+                    Piece piece = BlackTile.asBlackTile(tile).getPiece();
+                    piece.updateMovable();
+                    if (piece.isMovable()) {
+                        movable++;
+                    }
+                }
+            }
+        }
+        return movable;
+    }
+
+}
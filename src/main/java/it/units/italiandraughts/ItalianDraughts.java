@@ -1,7 +1,7 @@
 package it.units.italiandraughts;
 
 
-import it.units.italiandraughts.logic.StaticUtil;
+import it.units.italiandraughts.ui.ScreenUtil;
 import javafx.application.Application;
 import javafx.fxml.FXMLLoader;
 import javafx.scene.Scene;
@@ -16,7 +16,7 @@ public class ItalianDraughts extends Application {
     @Override
     public void start(Stage stage) throws IOException {
         FXMLLoader fxmlLoader = new FXMLLoader(getClass().getResource("ui/MenuLayout.fxml"));
-        Scene scene = new Scene(fxmlLoader.load(), StaticUtil.getScreenWidth() / 4f, StaticUtil.getScreenHeight() / 4f);
+        Scene scene = new Scene(fxmlLoader.load(), ScreenUtil.getScreenWidth() / 4f, ScreenUtil.getScreenHeight() / 4f);
         stage.setTitle("ItalianDraughts");
         stage.getIcons().add(new Image(Objects.requireNonNull(getClass().getResourceAsStream("ui/img/icon.png"))));
         stage.setScene(scene);
@@ -0,0 +1,151 @@
+package it.units.italiandraughts.book;
+
+import it.units.italiandraughts.logic.BitBoard;
+import it.units.italiandraughts.logic.MoveEncoding;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Read-only opening book, built by {@link OpeningBookBuilder}: after a header, fixed size records of (position key,
+ * packed move, games, wins, draws, losses) sorted by key, and by decreasing games within a key. The file is memory
+ * mapped and searched in place, so opening it costs nothing however large it is; since Zobrist keys are uniformly
+ * spread, an interpolation search finds a position in a handful of probes. Lookups are thread safe.
+ */
+public class OpeningBook implements Closeable {
+
+    static final long MAGIC = 0x49444f50454e424bL;
+    static final int HEADER_SIZE = Long.BYTES;
+    static final int RECORD_SIZE = 2 * Long.BYTES + 4 * Integer.BYTES;
+    // below this many records the search falls back to bisection
+    private static final int INTERPOLATION_THRESHOLD = 16;
+
+    private final FileChannel channel;
+    private final MappedByteBuffer buffer;
+    private final int size;
+
+    /**
+     * A book move with the results of the games it was played in, from the point of view of the side playing it.
+     */
+    public record BookMove(long move, int games, int wins, int draws, int losses) {
+
+        /**
+         * @return the fraction of points scored in the decided games, or 0.5 if there are none
+         */
+        public double getScore() {
+            int decided = wins + draws + losses;
+            return decided == 0 ? 0.5 : (wins + draws * 0.5) / decided;
+        }
+
+        @Override
+        public String toString() {
+            return MoveEncoding.toNotation(move) + " " + games + " (+" + wins + " =" + draws + " -" + losses + ")";
+        }
+    }
+
+    private OpeningBook(Path path) throws IOException {
+        channel = FileChannel.open(path, StandardOpenOption.READ);
+        long fileSize = channel.size();
+        if (fileSize > Integer.MAX_VALUE) {
+            channel.close();
+            throw new IOException("Opening books cannot exceed 2 GB: " + path);
+        }
+        buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, fileSize);
+        if (fileSize < HEADER_SIZE || buffer.getLong(0) != MAGIC || (fileSize - HEADER_SIZE) % RECORD_SIZE != 0) {
+            channel.close();
+            throw new IOException("Not an opening book: " + path);
+        }
+        size = (int) ((fileSize - HEADER_SIZE) / RECORD_SIZE);
+    }
+
+    public static OpeningBook open(Path path) throws IOException {
+        return new OpeningBook(path);
+    }
+
+    /**
+     * @return the number of (position, move) records
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * @return the book moves of the position, most played first; empty if it is not in the book
+     */
+    public List<BookMove> getMoves(BitBoard position) {
+        long key = position.getZobristKey();
+        List<BookMove> moves = new ArrayList<>();
+        for (int i = find(key); i < size && getKey(i) == key; i++) {
+            int offset = HEADER_SIZE + i * RECORD_SIZE + Long.BYTES;
+            moves.add(new BookMove(buffer.getLong(offset), buffer.getInt(offset + Long.BYTES),
+                    buffer.getInt(offset + Long.BYTES + Integer.BYTES),
+                    buffer.getInt(offset + Long.BYTES + 2 * Integer.BYTES),
+                    buffer.getInt(offset + Long.BYTES + 3 * Integer.BYTES)));
+        }
+        return moves;
+    }
+
+    public boolean contains(BitBoard position) {
+        long key = position.getZobristKey();
+        int index = find(key);
+        return index < size && getKey(index) == key;
+    }
+
+    private long getKey(int index) {
+        return buffer.getLong(HEADER_SIZE + index * RECORD_SIZE);
+    }
+
+    // the index of the first record whose key is not less than the given one
+    private int find(long key) {
+        int low = 0;
+        int high = size;
+        while (high - low > INTERPOLATION_THRESHOLD) {
+            long lowKey = getKey(low);
+            long highKey = getKey(high - 1);
+            if (key <= lowKey) {
+                return low;
+            }
+            if (key > highKey) {
+                return high;
+            }
+            int range = high - low;
+            double fraction = ((double) key - lowKey) / ((double) highKey - lowKey);
+            int probe = Math.min(high - 1, Math.max(low + 1, low + (int) (fraction * (range - 1))));
+            if (getKey(probe) < key) {
+                low = probe + 1;
+            } else {
+                high = probe;
+            }
+            // a skewed range can make interpolation crawl, so it is followed by bisection when it did not halve it
+            if (high - low > range / 2 && high > low) {
+                int middle = (low + high) >>> 1;
+                if (getKey(middle) < key) {
+                    low = middle + 1;
+                } else {
+                    high = middle;
+                }
+            }
+        }
+        while (low < high) {
+            int middle = (low + high) >>> 1;
+            if (getKey(middle) < key) {
+                low = middle + 1;
+            } else {
+                high = middle;
+            }
+        }
+        return low;
+    }
+
+    @Override
+    public void close() throws IOException {
+        channel.close();
+    }
+
+}
@@ -0,0 +1,140 @@
+package it.units.italiandraughts.book;
+
+import it.units.italiandraughts.logic.BitBoard;
+import it.units.italiandraughts.pdn.PdnGame;
+import it.units.italiandraughts.pdn.PdnReader;
+
+import java.io.BufferedOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Collects the moves played in the first plies of a set of games, with their results, and writes them as an
+ * {@link OpeningBook}. Not thread safe. Usage: OpeningBookBuilder pdnFile book [maxPly] [minGames]
+ */
+public class OpeningBookBuilder {
+
+    public static final int DEFAULT_MAX_PLY = 24;
+    public static final int DEFAULT_MIN_GAMES = 2;
+    // indexes of the statistics of a book move, in the order they are written
+    private static final int GAMES = 0;
+    private static final int WINS = 1;
+    private static final int DRAWS = 2;
+    private static final int LOSSES = 3;
+
+    private final int maxPly;
+    private final int minGames;
+    private final Map<Entry, int[]> statistics = new HashMap<>();
+    private int games;
+
+    private record Entry(long key, long move) {
+    }
+
+    public OpeningBookBuilder() {
+        this(DEFAULT_MAX_PLY, DEFAULT_MIN_GAMES);
+    }
+
+    /**
+     * @param maxPly   how many plies of every game are added
+     * @param minGames how many games a move must have been played in to be written to the book
+     */
+    public OpeningBookBuilder(int maxPly, int minGames) {
+        if (maxPly < 1 || minGames < 1) {
+            throw new IllegalArgumentException("The maximum ply and the minimum games must be positive");
+        }
+        this.maxPly = maxPly;
+        this.minGames = minGames;
+    }
+
+    public void add(PdnGame game) {
+        int whiteOutcome = getWhiteOutcome(game.getResult());
+        BitBoard bitBoard = game.getStartPosition().toBitBoard();
+        for (int ply = 0; ply < Math.min(maxPly, game.getMoveCount()); ply++) {
+            long move = game.getMove(ply);
+            int[] counts = statistics.computeIfAbsent(new Entry(bitBoard.getZobristKey(), move),
+                    entry -> new int[LOSSES + 1]);
+            counts[GAMES]++;
+            if (whiteOutcome != 0) {
+                int outcome = bitBoard.isWhiteToMove() || whiteOutcome == DRAWS ? whiteOutcome
+                        : whiteOutcome == WINS ? LOSSES : WINS;
+                counts[outcome]++;
+            }
+            bitBoard.makeMove(move);
+        }
+        games++;
+    }
+
+    // WINS, DRAWS or LOSSES for white, 0 if the game is unfinished
+    private static int getWhiteOutcome(String result) {
+        String[] scores = result.split("-");
+        if (scores.length != 2) {
+            return 0;
+        }
+        try {
+            int comparison = Double.compare(parseScore(scores[0]), parseScore(scores[1]));
+            return comparison > 0 ? WINS : comparison == 0 ? DRAWS : LOSSES;
+        } catch (NumberFormatException e) {
+            return 0;
+        }
+    }
+
+    private static double parseScore(String score) {
+        return score.equals("1/2") ? 0.5 : Double.parseDouble(score);
+    }
+
+    public int getGames() {
+        return games;
+    }
+
+    /**
+     * Writes the book, leaving out the moves played in fewer than the minimum games.
+     *
+     * @return the number of records written
+     */
+    public int write(Path path) throws IOException {
+        List<Map.Entry<Entry, int[]>> records = new ArrayList<>();
+        for (Map.Entry<Entry, int[]> record : statistics.entrySet()) {
+            if (record.getValue()[GAMES] >= minGames) {
+                records.add(record);
+            }
+        }
+        records.sort(Comparator.<Map.Entry<Entry, int[]>>comparingLong(record -> record.getKey().key())
+                .thenComparingInt(record -> -record.getValue()[GAMES])
+                .thenComparingLong(record -> record.getKey().move()));
+        try (DataOutputStream output = new DataOutputStream(new BufferedOutputStream(Files.newOutputStream(path),
+                1 << 16))) {
+            output.writeLong(OpeningBook.MAGIC);
+            for (Map.Entry<Entry, int[]> record : records) {
+                output.writeLong(record.getKey().key());
+                output.writeLong(record.getKey().move());
+                for (int count : record.getValue()) {
+                    output.writeInt(count);
+                }
+            }
+        }
+        return records.size();
+    }
+
+    public static void main(String[] args) throws IOException {
+        if (args.length < 2) {
+            System.err.println("Usage: OpeningBookBuilder pdnFile book [maxPly] [minGames]");
+            System.exit(1);
+        }
+        int maxPly = args.length > 2 ? Integer.parseInt(args[2]) : DEFAULT_MAX_PLY;
+        int minGames = args.length > 3 ? Integer.parseInt(args[3]) : DEFAULT_MIN_GAMES;
+        OpeningBookBuilder builder = new OpeningBookBuilder(maxPly, minGames);
+        try (PdnReader reader = PdnReader.open(Path.of(args[0]))) {
+            reader.games().forEach(builder::add);
+        }
+        int records = builder.write(Path.of(args[1]));
+        System.out.printf("%d games, %d book moves%n", builder.getGames(), records);
+    }
+
+}
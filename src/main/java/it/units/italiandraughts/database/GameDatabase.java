@@ -0,0 +1,86 @@
+package it.units.italiandraughts.database;
+
+import it.units.italiandraughts.pdn.PdnGame;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.LongBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+/**
+ * Read-only view of a games database: a games file holding one {@link GameRecordCodec} record after the other, and
+ * an index file holding the offset of every record as a long. Both are memory mapped, so any game is read in
+ * constant time without looking at the ones before it. The games file is mapped in overlapping segments, so that
+ * files larger than 2 GB can be read and every record lies entirely in one segment.
+ */
+public class GameDatabase implements Closeable {
+
+    static final int MAGIC = 0x49444742;
+    static final int HEADER_SIZE = Integer.BYTES;
+    private static final long SEGMENT_SIZE = 1L << 30;
+
+    private final FileChannel gamesChannel;
+    private final FileChannel indexChannel;
+    private final LongBuffer index;
+    private final MappedByteBuffer[] segments;
+    private final long gamesSize;
+
+    private GameDatabase(Path base) throws IOException {
+        gamesChannel = FileChannel.open(getGamesPath(base), StandardOpenOption.READ);
+        indexChannel = FileChannel.open(getIndexPath(base), StandardOpenOption.READ);
+        gamesSize = gamesChannel.size();
+        index = indexChannel.map(FileChannel.MapMode.READ_ONLY, 0, indexChannel.size()).asLongBuffer();
+        segments = new MappedByteBuffer[(int) ((gamesSize + SEGMENT_SIZE - 1) / SEGMENT_SIZE)];
+        for (int i = 0; i < segments.length; i++) {
+            long start = i * SEGMENT_SIZE;
+            long length = Math.min(gamesSize - start, SEGMENT_SIZE + GameRecordCodec.MAX_RECORD_SIZE);
+            segments[i] = gamesChannel.map(FileChannel.MapMode.READ_ONLY, start, length);
+        }
+        if (gamesSize < HEADER_SIZE || segments[0].getInt(0) != MAGIC) {
+            close();
+            throw new IOException("Not a games database: " + getGamesPath(base));
+        }
+    }
+
+    public static GameDatabase open(Path base) throws IOException {
+        return new GameDatabase(base);
+    }
+
+    static Path getGamesPath(Path base) {
+        return base.resolveSibling(base.getFileName() + ".games");
+    }
+
+    static Path getIndexPath(Path base) {
+        return base.resolveSibling(base.getFileName() + ".index");
+    }
+
+    public int size() {
+        return index.limit();
+    }
+
+    public PdnGame get(int number) {
+        if (number < 0 || number >= size()) {
+            throw new IndexOutOfBoundsException("No game " + number + " in a database of " + size());
+        }
+        long offset = index.get(number);
+        long end = number + 1 < size() ? index.get(number + 1) : gamesSize;
+        ByteBuffer segment = segments[(int) (offset / SEGMENT_SIZE)].duplicate();
+        int start = (int) (offset % SEGMENT_SIZE);
+        segment.position(start).limit(start + (int) (end - offset));
+        return GameRecordCodec.decode(segment);
+    }
+
+    @Override
+    public void close() throws IOException {
+        try {
+            gamesChannel.close();
+        } finally {
+            indexChannel.close();
+        }
+    }
+
+}
@@ -0,0 +1,63 @@
+package it.units.italiandraughts.database;
+
+import it.units.italiandraughts.pdn.PdnGame;
+
+import java.io.BufferedOutputStream;
+import java.io.Closeable;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+/**
+ * Appends games to a database that {@link GameDatabase} can read, creating it if it does not exist. Not thread
+ * safe.
+ */
+public class GameDatabaseWriter implements Closeable {
+
+    private final DataOutputStream games;
+    private final DataOutputStream index;
+    private long offset;
+    private int size;
+
+    public GameDatabaseWriter(Path base) throws IOException {
+        Path gamesPath = GameDatabase.getGamesPath(base);
+        Path indexPath = GameDatabase.getIndexPath(base);
+        boolean exists = Files.exists(gamesPath);
+        offset = exists ? Files.size(gamesPath) : 0;
+        size = Files.exists(indexPath) ? (int) (Files.size(indexPath) / Long.BYTES) : 0;
+        games = new DataOutputStream(new BufferedOutputStream(Files.newOutputStream(gamesPath,
+                StandardOpenOption.CREATE, StandardOpenOption.APPEND), 1 << 16));
+        index = new DataOutputStream(new BufferedOutputStream(Files.newOutputStream(indexPath,
+                StandardOpenOption.CREATE, StandardOpenOption.APPEND), 1 << 16));
+        if (offset == 0) {
+            games.writeInt(GameDatabase.MAGIC);
+            offset = GameDatabase.HEADER_SIZE;
+        }
+    }
+
+    /**
+     * @return the number of the appended game
+     */
+    public int append(PdnGame game) throws IOException {
+        byte[] record = GameRecordCodec.encode(game);
+        games.write(record);
+        index.writeLong(offset);
+        offset += record.length;
+        return size++;
+    }
+
+    public int size() {
+        return size;
+    }
+
+    @Override
+    public void close() throws IOException {
+        try (games; index) {
+            games.flush();
+            index.flush();
+        }
+    }
+
+}
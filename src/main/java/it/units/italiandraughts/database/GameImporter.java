@@ -0,0 +1,185 @@
+package it.units.italiandraughts.database;
+
+import it.units.italiandraughts.exception.InvalidPdnException;
+import it.units.italiandraughts.pdn.PdnGame;
+import it.units.italiandraughts.pdn.PdnReader;
+import it.units.italiandraughts.pdn.RawPdnGame;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.Semaphore;
+
+/**
+ * Imports PDN files into a {@link GameDatabase} as a pipeline: one thread tokenizes the input, worker threads
+ * validate the games against the rules and the calling thread appends them in input order. Bounded queues between
+ * the stages, and a limit on the games read but not yet appended, keep memory use flat however large the input is.
+ * Games with illegal moves or broken notation are counted and skipped.
+ * Usage: GameImporter pdnFile database [threads]
+ */
+public class GameImporter {
+
+    private static final int QUEUE_CAPACITY = 1024;
+    private static final int MAX_REPORTED_ERRORS = 100;
+    private static final Parsed END_OF_INPUT = new Parsed(0, null, null);
+    private static final Validated WORKER_FINISHED = new Validated(0, null, null);
+
+    private final int threads;
+
+    public GameImporter(int threads) {
+        if (threads < 1) {
+            throw new IllegalArgumentException("At least one thread is needed");
+        }
+        this.threads = threads;
+    }
+
+    /**
+     * @param errors the reasons the first rejected games were rejected
+     */
+    public record ImportResult(long imported, long rejected, List<String> errors, long elapsedNanos) {
+
+        public double getGamesPerSecond() {
+            return elapsedNanos == 0 ? 0 : (imported + rejected) * 1e9 / elapsedNanos;
+        }
+    }
+
+    // a game read, or the reason it could not be read
+    private record Parsed(int number, RawPdnGame game, String error) {
+    }
+
+    // a validated game, or the reason it was rejected
+    private record Validated(int number, PdnGame game, String error) {
+    }
+
+    public ImportResult importPdn(Path pdnFile, GameDatabaseWriter writer) throws IOException {
+        long start = System.nanoTime();
+        BlockingQueue<Parsed> parsed = new ArrayBlockingQueue<>(QUEUE_CAPACITY);
+        BlockingQueue<Validated> validated = new ArrayBlockingQueue<>(QUEUE_CAPACITY);
+        // permits for the games between the parser and the writer, so that the games waiting for an earlier one
+        // to be validated cannot pile up
+        Semaphore inFlight = new Semaphore(QUEUE_CAPACITY);
+        ExecutorService executor = Executors.newFixedThreadPool(threads + 1);
+        try {
+            Future<?> parser = executor.submit(() -> {
+                parse(pdnFile, parsed, inFlight);
+                return null;
+            });
+            for (int i = 0; i < threads; i++) {
+                executor.submit(() -> validate(parsed, validated));
+            }
+
+            long imported = 0;
+            long rejected = 0;
+            List<String> errors = new ArrayList<>();
+            Map<Integer, Validated> pending = new HashMap<>();
+            int next = 1;
+            for (int finished = 0; finished < threads; ) {
+                Validated result = validated.take();
+                if (result == WORKER_FINISHED) {
+                    finished++;
+                    continue;
+                }
+                pending.put(result.number(), result);
+                for (Validated ready = pending.remove(next); ready != null; ready = pending.remove(++next)) {
+                    inFlight.release();
+                    if (ready.game() != null) {
+                        writer.append(ready.game());
+                        imported++;
+                    } else {
+                        rejected++;
+                        if (errors.size() < MAX_REPORTED_ERRORS) {
+                            errors.add(ready.error());
+                        }
+                    }
+                }
+            }
+            parser.get();
+            return new ImportResult(imported, rejected, List.copyOf(errors), System.nanoTime() - start);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IOException("The import was interrupted", e);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof IOException cause) {
+                throw cause;
+            }
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw new IllegalStateException("Reading the games failed", e.getCause());
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    private void parse(Path pdnFile, BlockingQueue<Parsed> parsed, Semaphore inFlight)
+            throws IOException, InterruptedException {
+        try (PdnReader reader = PdnReader.open(pdnFile)) {
+            while (true) {
+                Parsed next;
+                try {
+                    RawPdnGame game = reader.nextRaw();
+                    if (game == null) {
+                        break;
+                    }
+                    next = new Parsed(game.getNumber(), game, null);
+                } catch (InvalidPdnException e) {
+                    next = new Parsed(reader.getGameNumber(), null, e.getMessage());
+                    reader.skipToNextGame();
+                }
+                inFlight.acquire();
+                parsed.put(next);
+            }
+        } finally {
+            for (int i = 0; i < threads; i++) {
+                parsed.put(END_OF_INPUT);
+            }
+        }
+    }
+
+    private static void validate(BlockingQueue<Parsed> parsed, BlockingQueue<Validated> validated) {
+        try {
+            for (Parsed next = parsed.take(); next != END_OF_INPUT; next = parsed.take()) {
+                RawPdnGame game = next.game();
+                Validated result;
+                if (game == null) {
+                    result = new Validated(next.number(), null, next.error());
+                } else {
+                    try {
+                        result = new Validated(next.number(), game.validate(), null);
+                    } catch (RuntimeException e) {
+                        result = new Validated(next.number(), null, e.getMessage());
+                    }
+                }
+                validated.put(result);
+            }
+            validated.put(WORKER_FINISHED);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    public static void main(String[] args) throws IOException {
+        if (args.length < 2) {
+            System.err.println("Usage: GameImporter pdnFile database [threads]");
+            System.exit(1);
+        }
+        int threads = args.length > 2 ? Integer.parseInt(args[2]) : Runtime.getRuntime().availableProcessors();
+        ImportResult result;
+        try (GameDatabaseWriter writer = new GameDatabaseWriter(Path.of(args[1]))) {
+            result = new GameImporter(threads).importPdn(Path.of(args[0]), writer);
+        }
+        result.errors().forEach(System.err::println);
+        System.out.printf("imported %d games, rejected %d, %d ms, %.0f games/s%n", result.imported(),
+                result.rejected(), result.elapsedNanos() / 1_000_000, result.getGamesPerSecond());
+    }
+
+}
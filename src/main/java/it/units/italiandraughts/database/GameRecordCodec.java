@@ -0,0 +1,87 @@
+package it.units.italiandraughts.database;
+
+import it.units.italiandraughts.logic.Position;
+import it.units.italiandraughts.pdn.PdnGame;
+
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Binary layout of a game in the games file: the tags and the result as length-prefixed UTF-8 strings, the
+ * starting position as its four piece masks and side to move, then the moves packed by
+ * {@link it.units.italiandraughts.logic.MoveEncoding}.
+ */
+class GameRecordCodec {
+
+    static final int MAX_RECORD_SIZE = 1 << 20;
+    private static final int MAX_STRING_LENGTH = 0xffff;
+
+    private GameRecordCodec() {
+    }
+
+    static byte[] encode(PdnGame game) {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream(256);
+        try (DataOutputStream output = new DataOutputStream(bytes)) {
+            output.writeShort(game.getTags().size());
+            for (Map.Entry<String, String> tag : game.getTags().entrySet()) {
+                writeString(output, tag.getKey());
+                writeString(output, tag.getValue());
+            }
+            writeString(output, game.getResult());
+            Position startPosition = game.getStartPosition();
+            output.writeInt(startPosition.whiteMen());
+            output.writeInt(startPosition.whiteKings());
+            output.writeInt(startPosition.blackMen());
+            output.writeInt(startPosition.blackKings());
+            output.writeBoolean(startPosition.whiteToMove());
+            output.writeInt(game.getMoveCount());
+            for (long move : game.getMoves()) {
+                output.writeLong(move);
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        if (bytes.size() > MAX_RECORD_SIZE) {
+            throw new IllegalArgumentException("A game record cannot exceed " + MAX_RECORD_SIZE + " bytes");
+        }
+        return bytes.toByteArray();
+    }
+
+    static PdnGame decode(ByteBuffer buffer) {
+        int tagCount = Short.toUnsignedInt(buffer.getShort());
+        Map<String, String> tags = new LinkedHashMap<>();
+        for (int i = 0; i < tagCount; i++) {
+            tags.put(readString(buffer), readString(buffer));
+        }
+        String result = readString(buffer);
+        Position startPosition = new Position(buffer.getInt(), buffer.getInt(), buffer.getInt(), buffer.getInt(),
+                buffer.get() != 0);
+        long[] moves = new long[buffer.getInt()];
+        for (int i = 0; i < moves.length; i++) {
+            moves[i] = buffer.getLong();
+        }
+        return new PdnGame(tags, startPosition, moves, result);
+    }
+
+    private static void writeString(DataOutputStream output, String value) throws IOException {
+        byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+        if (bytes.length > MAX_STRING_LENGTH) {
+            throw new IllegalArgumentException("A tag cannot exceed " + MAX_STRING_LENGTH + " bytes");
+        }
+        output.writeShort(bytes.length);
+        output.write(bytes);
+    }
+
+    private static String readString(ByteBuffer buffer) {
+        byte[] bytes = new byte[Short.toUnsignedInt(buffer.getShort())];
+        buffer.get(bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+
+}
@@ -0,0 +1,5 @@
+package it.units.italiandraughts.engine;
+
+public enum Bound {
+    EXACT, LOWER, UPPER
+}
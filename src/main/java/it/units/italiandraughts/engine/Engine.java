@@ -0,0 +1,317 @@
+package it.units.italiandraughts.engine;
+
+import it.units.italiandraughts.book.OpeningBook;
+import it.units.italiandraughts.logic.BitBoard;
+import it.units.italiandraughts.logic.Evaluation;
+import it.units.italiandraughts.logic.Game;
+import it.units.italiandraughts.logic.KnownResult;
+import it.units.italiandraughts.logic.MoveEncoding;
+import it.units.italiandraughts.logic.MoveGenerator;
+import it.units.italiandraughts.logic.MoveList;
+import it.units.italiandraughts.tablebase.Tablebase;
+
+import java.util.Arrays;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Negamax alpha-beta search with iterative deepening over a private copy of the position. Pending captures are
+ * searched past the nominal depth, since they are forced. Instances are not thread safe.
+ */
+public class Engine {
+
+    public static final int MAX_PLY = 64;
+    public static final int WIN_SCORE = 30000;
+    private static final int INFINITY = WIN_SCORE + 1;
+    // for tablebase wins without a distance, below every win with one
+    private static final int TABLEBASE_WIN_SCORE = WIN_SCORE / 2;
+    // below every score of a known result: a win in ply + distance plies, distances going up to 254, or a tablebase
+    // win without a distance; these scores are stored relative to the node and end iterative deepening
+    static final int DECISIVE_SCORE = TABLEBASE_WIN_SCORE - MAX_PLY;
+    private static final int DEFAULT_TABLE_MEGABYTES = 64;
+    private static final int TIME_CHECK_MASK = 1023;
+
+    private final TranspositionTable transpositionTable;
+    private final MoveGenerator moveGenerator = new MoveGenerator();
+    private final MoveList[] moveLists = new MoveList[MAX_PLY + 1];
+    private final int[][] principalVariation = new int[MAX_PLY + 1][MAX_PLY + 1];
+    private final int[] principalVariationLength = new int[MAX_PLY + 1];
+    private BitBoard bitBoard;
+    private long nodes;
+    private long deadline;
+    private boolean timeLimited;
+    private volatile boolean stopped;
+    private AtomicBoolean abortSignal = new AtomicBoolean();
+    private OpeningBook openingBook;
+    private Tablebase tablebase;
+
+    public Engine() {
+        this(new TranspositionTable(DEFAULT_TABLE_MEGABYTES));
+    }
+
+    public Engine(TranspositionTable transpositionTable) {
+        this.transpositionTable = transpositionTable;
+        for (int ply = 0; ply < moveLists.length; ply++) {
+            moveLists[ply] = new MoveList();
+        }
+    }
+
+    public SearchResult search(Game game, int maxDepth, long timeLimitMillis) {
+        return search(BitBoard.fromBoard(game.getBoard(), game.getActivePlayer().getPieceColor()), maxDepth,
+                timeLimitMillis);
+    }
+
+    /**
+     * Searches until maxDepth is completed or the time limit (0 for none) expires; an interrupted iteration is
+     * discarded, except for the first one.
+     */
+    public SearchResult search(BitBoard position, int maxDepth, long timeLimitMillis) {
+        return search(position, 1, maxDepth, timeLimitMillis, true);
+    }
+
+    /**
+     * @param newSearch whether to age the transposition table first; false for the threads of a
+     *                  {@link ParallelEngine}, which ages it once for all of them
+     */
+    SearchResult search(BitBoard position, int startDepth, int maxDepth, long timeLimitMillis, boolean newSearch) {
+        if (newSearch) {
+            transpositionTable.newSearch();
+        }
+        long start = System.currentTimeMillis();
+        bitBoard = new BitBoard(position);
+        nodes = 0;
+        stopped = false;
+        timeLimited = false;
+        deadline = start + timeLimitMillis;
+
+        MoveList rootMoves = moveLists[0];
+        if (moveGenerator.generate(bitBoard, rootMoves) == 0) {
+            return new SearchResult(MoveEncoding.NONE, -WIN_SCORE, 0, 0, 0, new int[0]);
+        }
+        if (rootMoves.size() == 1) {
+            return new SearchResult(rootMoves.getMove(0), 0, 0, 1, 0, new int[]{rootMoves.getKey(0)});
+        }
+        SearchResult knownResult = probeRoot(bitBoard, rootMoves, start);
+        if (knownResult != null) {
+            return knownResult;
+        }
+
+        SearchResult result = null;
+        for (int depth = startDepth; depth <= Math.min(maxDepth, MAX_PLY); depth++) {
+            int score = negamax(depth, 0, -INFINITY, INFINITY);
+            if (stopped && result != null) {
+                break;
+            }
+            moveGenerator.generate(bitBoard, rootMoves);
+            int bestIndex = Math.max(0, rootMoves.indexOf(principalVariation[0][0]));
+            result = new SearchResult(rootMoves.getMove(bestIndex), score, depth, nodes,
+                    System.currentTimeMillis() - start,
+                    Arrays.copyOf(principalVariation[0], principalVariationLength[0]));
+            timeLimited = timeLimitMillis > 0;
+            if (stopped || Math.abs(score) > DECISIVE_SCORE) {
+                break;
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Plays the most played book move, if any, instead of searching the positions in the given book; null for none.
+     */
+    public void setOpeningBook(OpeningBook openingBook) {
+        this.openingBook = openingBook;
+    }
+
+    /**
+     * Scores the positions in the given tablebase exactly instead of searching them; null for none.
+     */
+    public void setTablebase(Tablebase tablebase) {
+        this.tablebase = tablebase;
+    }
+
+    /**
+     * @return the result of playing the book move of the position or the best move in the tablebase, null if neither
+     * knows the position
+     */
+    SearchResult probeRoot(BitBoard position) {
+        long start = System.currentTimeMillis();
+        MoveList rootMoves = moveLists[0];
+        moveGenerator.generate(position, rootMoves);
+        return probeRoot(position, rootMoves, start);
+    }
+
+    private SearchResult probeRoot(BitBoard position, MoveList rootMoves, long start) {
+        SearchResult bookResult = probeBook(position, rootMoves, start);
+        return bookResult != null ? bookResult : probeTablebase(position, rootMoves, start);
+    }
+
+    // the most played book move that is legal, since a key collision could return another position's moves
+    private SearchResult probeBook(BitBoard position, MoveList rootMoves, long start) {
+        if (openingBook == null) {
+            return null;
+        }
+        for (OpeningBook.BookMove bookMove : openingBook.getMoves(position)) {
+            for (int i = 0; i < rootMoves.size(); i++) {
+                if (rootMoves.getMove(i) == bookMove.move()) {
+                    return new SearchResult(bookMove.move(), 0, 0, 0, System.currentTimeMillis() - start,
+                            new int[]{rootMoves.getKey(i)});
+                }
+            }
+        }
+        return null;
+    }
+
+    // the fastest win or the slowest loss; without distances a won position could be played around forever, so it is
+    // searched instead, the tablebase still scoring its leaves
+    private SearchResult probeTablebase(BitBoard position, MoveList rootMoves, long start) {
+        if (tablebase == null || !tablebase.hasDistances() || rootMoves.size() == 0
+                || tablebase.probe(position) == null) {
+            return null;
+        }
+        BitBoard child = new BitBoard(position);
+        int bestIndex = 0;
+        int bestScore = -INFINITY;
+        for (int i = 0; i < rootMoves.size(); i++) {
+            rootMoves.makeMove(child, i);
+            int score = -getTablebaseScore(tablebase.probe(child), 1);
+            rootMoves.undoMove(child, i);
+            if (score > bestScore) {
+                bestScore = score;
+                bestIndex = i;
+            }
+        }
+        return new SearchResult(rootMoves.getMove(bestIndex), bestScore, 0, 0, System.currentTimeMillis() - start,
+                new int[]{rootMoves.getKey(bestIndex)});
+    }
+
+    private static int getTablebaseScore(KnownResult result, int ply) {
+        return switch (result.outcome()) {
+            case DRAW -> 0;
+            case WIN -> result.hasDistance() ? WIN_SCORE - ply - result.distance() : TABLEBASE_WIN_SCORE - ply;
+            case LOSS -> result.hasDistance() ? -WIN_SCORE + ply + result.distance() : -TABLEBASE_WIN_SCORE + ply;
+        };
+    }
+
+    public void stop() {
+        stopped = true;
+    }
+
+    /**
+     * Lets another thread stop this engine's searches by setting the given flag, which is checked every 1024 nodes.
+     */
+    void setAbortSignal(AtomicBoolean abortSignal) {
+        this.abortSignal = abortSignal;
+    }
+
+    public long getNodes() {
+        return nodes;
+    }
+
+    public TranspositionTable getTranspositionTable() {
+        return transpositionTable;
+    }
+
+    private int negamax(int depth, int ply, int alpha, int beta) {
+        principalVariationLength[ply] = 0;
+        if ((++nodes & TIME_CHECK_MASK) == 0
+                && (abortSignal.get() || timeLimited && System.currentTimeMillis() >= deadline)) {
+            stopped = true;
+        }
+        if (stopped) {
+            return 0;
+        }
+        if (ply > 0 && tablebase != null && Integer.bitCount(bitBoard.getOccupied()) <= tablebase.getMaxPieces()) {
+            KnownResult result = tablebase.probe(bitBoard);
+            if (result != null) {
+                return getTablebaseScore(result, ply);
+            }
+        }
+        MoveList moves = moveLists[ply];
+        int count = moveGenerator.generate(bitBoard, moves);
+        if (count == 0) {
+            return -WIN_SCORE + ply;
+        }
+        if ((depth <= 0 && !moves.isCapture(0)) || ply == MAX_PLY) {
+            return Evaluation.evaluate(bitBoard);
+        }
+
+        long key = bitBoard.getZobristKey();
+        int originalAlpha = alpha;
+        if (depth > 0) {
+            long entry = transpositionTable.probe(key);
+            if (entry != 0) {
+                int moveIndex = moves.indexOf(TranspositionTable.getMove(entry));
+                if (moveIndex > 0) {
+                    moves.swap(0, moveIndex);
+                }
+                if (ply > 0 && TranspositionTable.getDepth(entry) >= depth) {
+                    int score = fromTableScore(TranspositionTable.getScore(entry), ply);
+                    switch (TranspositionTable.getBound(entry)) {
+                        case EXACT -> {
+                            return score;
+                        }
+                        case LOWER -> alpha = Math.max(alpha, score);
+                        case UPPER -> beta = Math.min(beta, score);
+                    }
+                    if (alpha >= beta) {
+                        return score;
+                    }
+                }
+            }
+        }
+
+        int bestScore = -INFINITY;
+        int bestMove = 0;
+        for (int i = 0; i < count; i++) {
+            moves.makeMove(bitBoard, i);
+            int score = -negamax(depth - 1, ply + 1, -beta, -alpha);
+            moves.undoMove(bitBoard, i);
+            if (stopped) {
+                return 0;
+            }
+            if (score > bestScore) {
+                bestScore = score;
+                bestMove = moves.getKey(i);
+                if (score > alpha) {
+                    alpha = score;
+                    updatePrincipalVariation(ply, bestMove);
+                    if (alpha >= beta) {
+                        break;
+                    }
+                }
+            }
+        }
+
+        if (depth > 0) {
+            Bound bound = bestScore <= originalAlpha ? Bound.UPPER : bestScore >= beta ? Bound.LOWER : Bound.EXACT;
+            transpositionTable.store(key, depth, bound, toTableScore(bestScore, ply), bestMove);
+        }
+        return bestScore;
+    }
+
+    private void updatePrincipalVariation(int ply, int move) {
+        principalVariation[ply][0] = move;
+        System.arraycopy(principalVariation[ply + 1], 0, principalVariation[ply], 1, principalVariationLength[ply + 1]);
+        principalVariationLength[ply] = principalVariationLength[ply + 1] + 1;
+    }
+
+    static int toTableScore(int score, int ply) {
+        if (score > DECISIVE_SCORE) {
+            return score + ply;
+        }
+        if (score < -DECISIVE_SCORE) {
+            return score - ply;
+        }
+        return score;
+    }
+
+    static int fromTableScore(int score, int ply) {
+        if (score > DECISIVE_SCORE) {
+            return score - ply;
+        }
+        if (score < -DECISIVE_SCORE) {
+            return score + ply;
+        }
+        return score;
+    }
+
+}
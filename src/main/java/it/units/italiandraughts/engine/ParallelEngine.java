@@ -0,0 +1,110 @@
+package it.units.italiandraughts.engine;
+
+import it.units.italiandraughts.book.OpeningBook;
+import it.units.italiandraughts.logic.BitBoard;
+import it.units.italiandraughts.logic.Game;
+import it.units.italiandraughts.tablebase.Tablebase;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Lazy SMP: every thread runs its own {@link Engine} on its own copy of the position, and they only cooperate
+ * through the shared transposition table. Helpers start at staggered depths and keep deepening until the main
+ * search is done; the result is the main thread's.
+ */
+public class ParallelEngine implements AutoCloseable {
+
+    private final TranspositionTable transpositionTable;
+    private final Engine[] engines;
+    private final ExecutorService helpers;
+
+    public ParallelEngine(int threads, int tableMegabytes) {
+        if (threads < 1) {
+            throw new IllegalArgumentException("At least one search thread is needed");
+        }
+        transpositionTable = new TranspositionTable(tableMegabytes);
+        engines = new Engine[threads];
+        for (int i = 0; i < threads; i++) {
+            engines[i] = new Engine(transpositionTable);
+        }
+        helpers = threads > 1 ? Executors.newFixedThreadPool(threads - 1, runnable -> {
+            Thread thread = new Thread(runnable, "search-helper");
+            thread.setDaemon(true);
+            return thread;
+        }) : null;
+    }
+
+    public SearchResult search(Game game, int maxDepth, long timeLimitMillis) {
+        return search(BitBoard.fromBoard(game.getBoard(), game.getActivePlayer().getPieceColor()), maxDepth,
+                timeLimitMillis);
+    }
+
+    public SearchResult search(BitBoard position, int maxDepth, long timeLimitMillis) {
+        BitBoard snapshot = new BitBoard(position);
+        SearchResult knownResult = engines[0].probeRoot(snapshot);
+        if (knownResult != null) {
+            return knownResult;
+        }
+        transpositionTable.newSearch();
+        AtomicBoolean abortSignal = new AtomicBoolean();
+        List<Future<SearchResult>> helperResults = new ArrayList<>();
+        for (int i = 1; i < engines.length; i++) {
+            Engine helper = engines[i];
+            int startDepth = 1 + i % 2;
+            helper.setAbortSignal(abortSignal);
+            helperResults.add(helpers.submit(
+                    () -> helper.search(snapshot, startDepth, Engine.MAX_PLY, 0, false)));
+        }
+        SearchResult result = engines[0].search(snapshot, 1, maxDepth, timeLimitMillis, false);
+        abortSignal.set(true);
+
+        long nodes = engines[0].getNodes();
+        for (int i = 0; i < helperResults.size(); i++) {
+            try {
+                helperResults.get(i).get();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            } catch (ExecutionException e) {
+                throw new IllegalStateException("A search thread failed", e.getCause());
+            }
+            nodes += engines[i + 1].getNodes();
+        }
+        return new SearchResult(result.getBestMove(), result.getScore(), result.getDepth(), nodes,
+                result.getElapsedMillis(), result.getPrincipalVariation());
+    }
+
+    public void setOpeningBook(OpeningBook openingBook) {
+        engines[0].setOpeningBook(openingBook);
+    }
+
+    public void setTablebase(Tablebase tablebase) {
+        for (Engine engine : engines) {
+            engine.setTablebase(tablebase);
+        }
+    }
+
+    public void stop() {
+        engines[0].stop();
+    }
+
+    public int getThreads() {
+        return engines.length;
+    }
+
+    public TranspositionTable getTranspositionTable() {
+        return transpositionTable;
+    }
+
+    @Override
+    public void close() {
+        if (helpers != null) {
+            helpers.shutdownNow();
+        }
+    }
+}
@@ -0,0 +1,161 @@
+package it.units.italiandraughts.engine;
+
+import it.units.italiandraughts.logic.BitBoard;
+import it.units.italiandraughts.logic.MoveGenerator;
+import it.units.italiandraughts.logic.MoveList;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.Future;
+
+/**
+ * Counts the leaf nodes of the legal move tree, to check the move generator against known values and to track its
+ * throughput. Usage: Perft depth [--fen FEN] [--parallel [threads]] [--hash megabytes]
+ */
+public class Perft {
+
+    private final MoveGenerator moveGenerator = new MoveGenerator();
+    private final MoveList[] moveLists = new MoveList[Engine.MAX_PLY + 1];
+    private final PerftCache cache;
+
+    public Perft() {
+        this(null);
+    }
+
+    public Perft(PerftCache cache) {
+        this.cache = cache;
+        for (int ply = 0; ply < moveLists.length; ply++) {
+            moveLists[ply] = new MoveList();
+        }
+    }
+
+    public long count(BitBoard position, int depth) {
+        if (depth > Engine.MAX_PLY) {
+            throw new IllegalArgumentException("Depth cannot exceed " + Engine.MAX_PLY);
+        }
+        return perft(new BitBoard(position), depth, 0);
+    }
+
+    private long perft(BitBoard bitBoard, int depth, int ply) {
+        if (depth == 0) {
+            return 1;
+        }
+        if (cache != null && depth > 1) {
+            long cached = cache.get(bitBoard.getZobristKey(), depth);
+            if (cached != 0) {
+                return cached;
+            }
+        }
+        MoveList moves = moveLists[ply];
+        int count = moveGenerator.generate(bitBoard, moves);
+        if (depth == 1) {
+            return count;
+        }
+        long nodes = 0;
+        for (int i = 0; i < count; i++) {
+            moves.makeMove(bitBoard, i);
+            nodes += perft(bitBoard, depth - 1, ply + 1);
+            moves.undoMove(bitBoard, i);
+        }
+        if (cache != null) {
+            cache.put(bitBoard.getZobristKey(), depth, nodes);
+        }
+        return nodes;
+    }
+
+    /**
+     * Counts the leaves below every root move, in move generation order. With a pool, root moves are counted in
+     * parallel, each by its own Perft sharing the given cache.
+     */
+    public static Map<String, Long> divide(BitBoard position, int depth, ForkJoinPool pool, PerftCache cache) {
+        if (depth < 1) {
+            throw new IllegalArgumentException("Depth must be at least 1");
+        }
+        BitBoard bitBoard = new BitBoard(position);
+        MoveList rootMoves = new MoveList();
+        new MoveGenerator().generate(bitBoard, rootMoves);
+        List<Callable<Long>> tasks = new ArrayList<>();
+        for (int i = 0; i < rootMoves.size(); i++) {
+            BitBoard child = new BitBoard(bitBoard);
+            rootMoves.makeMove(child, i);
+            tasks.add(() -> new Perft(cache).count(child, depth - 1));
+        }
+
+        Map<String, Long> division = new LinkedHashMap<>();
+        if (pool == null) {
+            for (int i = 0; i < tasks.size(); i++) {
+                division.put(rootMoves.toNotation(i), call(tasks.get(i)));
+            }
+        } else {
+            List<Future<Long>> results = pool.invokeAll(tasks);
+            for (int i = 0; i < results.size(); i++) {
+                try {
+                    division.put(rootMoves.toNotation(i), results.get(i).get());
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    throw new IllegalStateException("Perft was interrupted", e);
+                } catch (ExecutionException e) {
+                    throw new IllegalStateException("A perft task failed", e.getCause());
+                }
+            }
+        }
+        return division;
+    }
+
+    private static long call(Callable<Long> task) {
+        try {
+            return task.call();
+        } catch (Exception e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    public static void main(String[] args) {
+        if (args.length == 0) {
+            System.err.println("Usage: Perft depth [--fen FEN] [--parallel [threads]] [--hash megabytes]");
+            System.exit(1);
+        }
+        int depth = Integer.parseInt(args[0]);
+        BitBoard position = BitBoard.initial();
+        ForkJoinPool pool = null;
+        PerftCache cache = null;
+        for (int i = 1; i < args.length; i++) {
+            switch (args[i]) {
+                case "--fen" -> position = BitBoard.fromFen(args[++i]);
+                case "--parallel" -> {
+                    int threads = Runtime.getRuntime().availableProcessors();
+                    if (i + 1 < args.length && args[i + 1].matches("\\d+")) {
+                        threads = Integer.parseInt(args[++i]);
+                    }
+                    pool = new ForkJoinPool(threads);
+                }
+                case "--hash" -> cache = new PerftCache(Integer.parseInt(args[++i]));
+                default -> throw new IllegalArgumentException("Unknown option " + args[i]);
+            }
+        }
+
+        System.out.println(position.toFen());
+        long start = System.nanoTime();
+        Map<String, Long> division = divide(position, depth, pool, cache);
+        long elapsedNanos = System.nanoTime() - start;
+        long total = 0;
+        for (Map.Entry<String, Long> entry : division.entrySet()) {
+            System.out.printf("%-20s %d%n", entry.getKey(), entry.getValue());
+            total += entry.getValue();
+        }
+        System.out.printf("%nmoves %d, nodes %d, time %d ms, %d nodes/s%n", division.size(), total,
+                elapsedNanos / 1_000_000, elapsedNanos == 0 ? 0 : total * 1_000_000_000L / elapsedNanos);
+        if (cache != null) {
+            System.out.printf("hash hit rate %.3f%n", cache.getHitRate());
+        }
+        if (pool != null) {
+            pool.shutdown();
+        }
+    }
+
+}
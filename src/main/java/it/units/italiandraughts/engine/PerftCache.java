@@ -0,0 +1,54 @@
+package it.units.italiandraughts.engine;
+
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Position-keyed cache of perft subtree counts, shared lock-free between threads in the same way as the
+ * {@link TranspositionTable}: entries are stored as (key ^ count, count) and verified on read.
+ */
+public class PerftCache {
+
+    private static final int LONGS_PER_ENTRY = 2;
+    private static final long DEPTH_MIX = 0x9e3779b97f4a7c15L;
+
+    private final AtomicLongArray table;
+    private final int entryMask;
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder probes = new LongAdder();
+
+    public PerftCache(int megabytes) {
+        long entries = Long.highestOneBit((long) megabytes * 1024 * 1024 / (LONGS_PER_ENTRY * Long.BYTES));
+        int entryCount = (int) Math.max(1, Math.min(entries, 1 << 29));
+        entryMask = entryCount - 1;
+        table = new AtomicLongArray(entryCount * LONGS_PER_ENTRY);
+    }
+
+    private static long mix(long key, int depth) {
+        return key ^ depth * DEPTH_MIX;
+    }
+
+    public long get(long key, int depth) {
+        probes.increment();
+        long mixedKey = mix(key, depth);
+        int index = ((int) (mixedKey ^ mixedKey >>> 32) & entryMask) * LONGS_PER_ENTRY;
+        long count = table.getOpaque(index + 1);
+        if (count != 0 && (table.getOpaque(index) ^ count) == mixedKey) {
+            hits.increment();
+            return count;
+        }
+        return 0;
+    }
+
+    public void put(long key, int depth, long count) {
+        long mixedKey = mix(key, depth);
+        int index = ((int) (mixedKey ^ mixedKey >>> 32) & entryMask) * LONGS_PER_ENTRY;
+        table.setOpaque(index, mixedKey ^ count);
+        table.setOpaque(index + 1, count);
+    }
+
+    public double getHitRate() {
+        long probes = this.probes.sum();
+        return probes == 0 ? 0 : (double) hits.sum() / probes;
+    }
+}
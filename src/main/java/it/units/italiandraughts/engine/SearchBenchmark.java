@@ -0,0 +1,76 @@
+package it.units.italiandraughts.engine;
+
+import it.units.italiandraughts.logic.BitBoard;
+import it.units.italiandraughts.logic.MoveGenerator;
+import it.units.italiandraughts.logic.MoveList;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+/**
+ * Measures time to depth and nodes per second of {@link ParallelEngine} for several thread counts.
+ * Usage: SearchBenchmark [depth] [threads...]
+ */
+public class SearchBenchmark {
+
+    private static final int DEFAULT_DEPTH = 14;
+    private static final int TABLE_MEGABYTES = 128;
+    private static final int POSITIONS = 4;
+    private static final long SEED = 20211;
+
+    public static void main(String[] args) {
+        int depth = args.length > 0 ? Integer.parseInt(args[0]) : DEFAULT_DEPTH;
+        List<Integer> threadCounts = new ArrayList<>();
+        for (int i = 1; i < args.length; i++) {
+            threadCounts.add(Integer.parseInt(args[i]));
+        }
+        if (threadCounts.isEmpty()) {
+            for (int threads = 1; threads <= Runtime.getRuntime().availableProcessors(); threads *= 2) {
+                threadCounts.add(threads);
+            }
+        }
+
+        List<BitBoard> positions = generatePositions();
+        System.out.printf("depth %d, %d positions%n", depth, positions.size());
+        System.out.printf("%8s %12s %14s %12s %8s%n", "threads", "time (ms)", "nodes", "nodes/s", "speedup");
+        double baseline = 0;
+        for (int threads : threadCounts) {
+            long millis = 0;
+            long nodes = 0;
+            for (BitBoard position : positions) {
+                try (ParallelEngine engine = new ParallelEngine(threads, TABLE_MEGABYTES)) {
+                    long start = System.nanoTime();
+                    SearchResult result = engine.search(position, depth, 0);
+                    millis += (System.nanoTime() - start) / 1_000_000;
+                    nodes += result.getNodes();
+                }
+            }
+            if (baseline == 0) {
+                baseline = millis;
+            }
+            System.out.printf("%8d %12d %14d %12d %8.2f%n", threads, millis, nodes,
+                    millis == 0 ? 0 : nodes * 1000 / millis, millis == 0 ? 0 : baseline / millis);
+        }
+    }
+
+    private static List<BitBoard> generatePositions() {
+        Random random = new Random(SEED);
+        MoveGenerator moveGenerator = new MoveGenerator();
+        MoveList moves = new MoveList();
+        List<BitBoard> positions = new ArrayList<>();
+        positions.add(BitBoard.initial());
+        while (positions.size() < POSITIONS) {
+            BitBoard bitBoard = BitBoard.initial();
+            int plies = 8 + random.nextInt(16);
+            for (int ply = 0; ply < plies && moveGenerator.generate(bitBoard, moves) > 0; ply++) {
+                moves.makeMove(bitBoard, random.nextInt(moves.size()));
+            }
+            if (moveGenerator.generate(bitBoard, moves) > 1) {
+                positions.add(bitBoard);
+            }
+        }
+        return positions;
+    }
+
+}
@@ -0,0 +1,85 @@
+package it.units.italiandraughts.engine;
+
+import it.units.italiandraughts.logic.BlackTile;
+import it.units.italiandraughts.logic.Board;
+import it.units.italiandraughts.logic.MoveEncoding;
+
+import java.util.Arrays;
+import java.util.List;
+
+public class SearchResult {
+
+    private final long bestMove;
+    private final int score;
+    private final int depth;
+    private final long nodes;
+    private final long elapsedMillis;
+    private final int[] principalVariation;
+
+    SearchResult(long bestMove, int score, int depth, long nodes, long elapsedMillis, int[] principalVariation) {
+        this.bestMove = bestMove;
+        this.score = score;
+        this.depth = depth;
+        this.nodes = nodes;
+        this.elapsedMillis = elapsedMillis;
+        this.principalVariation = principalVariation;
+    }
+
+    public boolean hasMove() {
+        return bestMove != MoveEncoding.NONE;
+    }
+
+    /**
+     * The best move packed by {@link MoveEncoding}, {@link MoveEncoding#NONE} if there is none.
+     */
+    public long getBestMove() {
+        return bestMove;
+    }
+
+    public int[] getBestPath() {
+        return hasMove() ? MoveEncoding.getPath(bestMove) : null;
+    }
+
+    public List<BlackTile> getSteps(Board board) {
+        if (!hasMove()) {
+            throw new IllegalStateException("The searched position has no legal moves");
+        }
+        return MoveEncoding.getSteps(bestMove, board);
+    }
+
+    public int getScore() {
+        return score;
+    }
+
+    public int getDepth() {
+        return depth;
+    }
+
+    public long getNodes() {
+        return nodes;
+    }
+
+    public long getElapsedMillis() {
+        return elapsedMillis;
+    }
+
+    public long getNodesPerSecond() {
+        return elapsedMillis == 0 ? nodes * 1000 : nodes * 1000 / elapsedMillis;
+    }
+
+    public int[] getPrincipalVariation() {
+        return principalVariation;
+    }
+
+    @Override
+    public String toString() {
+        return "SearchResult{" +
+                "bestMove=" + (hasMove() ? MoveEncoding.toNotation(bestMove) : "none") +
+                ", score=" + score +
+                ", depth=" + depth +
+                ", nodes=" + nodes +
+                ", elapsedMillis=" + elapsedMillis +
+                ", principalVariation=" + Arrays.toString(principalVariation) +
+                '}';
+    }
+}
@@ -0,0 +1,170 @@
+package it.units.italiandraughts.engine;
+
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Fixed-size, lock-free transposition table. Every entry takes two longs: the key XORed with the data, and the
+ * data itself. A torn or concurrently overwritten entry then fails the key check instead of returning wrong data,
+ * so threads can share the table without locking.
+ * <p>
+ * Buckets hold two entries: the first is replaced only by deeper or newer searches, the second always.
+ * Probes return the packed data, or 0 on a miss; use the static getters to unpack it.
+ */
+public class TranspositionTable {
+
+    private static final int LONGS_PER_ENTRY = 2;
+    private static final int ENTRIES_PER_BUCKET = 2;
+    private static final int BYTES_PER_BUCKET = LONGS_PER_ENTRY * ENTRIES_PER_BUCKET * Long.BYTES;
+    // the largest power of two whose longs still fit in an array
+    static final int MAX_BUCKETS = 1 << 28;
+    private static final int DEPTH_SHIFT = 16;
+    private static final int BOUND_SHIFT = 24;
+    private static final int GENERATION_SHIFT = 26;
+    private static final int GENERATION_MASK = 0x3f;
+    private static final int MOVE_SHIFT = 32;
+
+    private final AtomicLongArray table;
+    private final int bucketMask;
+    private volatile int generation;
+    private final LongAdder probes = new LongAdder();
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder stores = new LongAdder();
+    private final LongAdder collisions = new LongAdder();
+
+    public TranspositionTable(int megabytes) {
+        if (megabytes <= 0) {
+            throw new IllegalArgumentException("The table size must be positive");
+        }
+        int bucketCount = getBucketCount(megabytes);
+        bucketMask = bucketCount - 1;
+        table = new AtomicLongArray(bucketCount * ENTRIES_PER_BUCKET * LONGS_PER_ENTRY);
+    }
+
+    static int getBucketCount(int megabytes) {
+        long buckets = Long.highestOneBit((long) megabytes * 1024 * 1024 / BYTES_PER_BUCKET);
+        return (int) Math.max(1, Math.min(buckets, MAX_BUCKETS));
+    }
+
+    private int bucketIndex(long key) {
+        return (int) (key ^ (key >>> 32)) & bucketMask;
+    }
+
+    public long probe(long key) {
+        probes.increment();
+        int index = bucketIndex(key) * ENTRIES_PER_BUCKET * LONGS_PER_ENTRY;
+        for (int entry = 0; entry < ENTRIES_PER_BUCKET; entry++, index += LONGS_PER_ENTRY) {
+            long data = table.getOpaque(index + 1);
+            if (data != 0 && (table.getOpaque(index) ^ data) == key) {
+                hits.increment();
+                return data;
+            }
+        }
+        return 0;
+    }
+
+    public void store(long key, int depth, Bound bound, int score, int move) {
+        stores.increment();
+        long data = pack(depth, bound, score, move, generation);
+        int index = bucketIndex(key) * ENTRIES_PER_BUCKET * LONGS_PER_ENTRY;
+        long preferredData = table.getOpaque(index + 1);
+        long preferredKey = table.getOpaque(index) ^ preferredData;
+        if (preferredData == 0 || preferredKey == key || depth >= getDepth(preferredData)
+                || getGeneration(preferredData) != generation) {
+            write(index, key, data, preferredKey, preferredData);
+        } else {
+            int alwaysIndex = index + LONGS_PER_ENTRY;
+            long alwaysData = table.getOpaque(alwaysIndex + 1);
+            write(alwaysIndex, key, data, table.getOpaque(alwaysIndex) ^ alwaysData, alwaysData);
+        }
+    }
+
+    private void write(int index, long key, long data, long oldKey, long oldData) {
+        if (oldData != 0 && oldKey != key) {
+            collisions.increment();
+        }
+        table.setOpaque(index, key ^ data);
+        table.setOpaque(index + 1, data);
+    }
+
+    private static long pack(int depth, Bound bound, int score, int move, int generation) {
+        if (depth < 0 || depth > 0xff) {
+            throw new IllegalArgumentException("Depth out of range: " + depth);
+        }
+        if (score < Short.MIN_VALUE || score > Short.MAX_VALUE) {
+            throw new IllegalArgumentException("Score out of range: " + score);
+        }
+        // the bound is stored off by one, so that a used entry is never 0
+        return (score & 0xffffL)
+                | (long) depth << DEPTH_SHIFT
+                | (long) (bound.ordinal() + 1) << BOUND_SHIFT
+                | (long) generation << GENERATION_SHIFT
+                | (long) move << MOVE_SHIFT;
+    }
+
+    public static int getScore(long data) {
+        return (short) data;
+    }
+
+    public static int getDepth(long data) {
+        return (int) (data >>> DEPTH_SHIFT) & 0xff;
+    }
+
+    public static Bound getBound(long data) {
+        return Bound.values()[((int) (data >>> BOUND_SHIFT) & 0x3) - 1];
+    }
+
+    public static int getMove(long data) {
+        return (int) (data >>> MOVE_SHIFT);
+    }
+
+    private static int getGeneration(long data) {
+        return (int) (data >>> GENERATION_SHIFT) & GENERATION_MASK;
+    }
+
+    int getGeneration() {
+        return generation;
+    }
+
+    public synchronized void newSearch() {
+        generation = (generation + 1) & GENERATION_MASK;
+    }
+
+    public void clear() {
+        for (int i = 0; i < table.length(); i++) {
+            table.setOpaque(i, 0);
+        }
+        probes.reset();
+        hits.reset();
+        stores.reset();
+        collisions.reset();
+    }
+
+    public int getCapacity() {
+        return table.length() / LONGS_PER_ENTRY;
+    }
+
+    public long getProbes() {
+        return probes.sum();
+    }
+
+    public long getHits() {
+        return hits.sum();
+    }
+
+    public double getHitRate() {
+        long probes = getProbes();
+        return probes == 0 ? 0 : (double) getHits() / probes;
+    }
+
+    public double getCollisionRate() {
+        long stores = this.stores.sum();
+        return stores == 0 ? 0 : (double) collisions.sum() / stores;
+    }
+
+    @Override
+    public String toString() {
+        return String.format("TranspositionTable{ entries=%d, probes=%d, hitRate=%.3f, collisionRate=%.3f }",
+                getCapacity(), getProbes(), getHitRate(), getCollisionRate());
+    }
+}
@@ -0,0 +1,192 @@
+package it.units.italiandraughts.event;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+/**
+ * Delivers game events to the listeners subscribed to their type. Listener arrays are copied on write, so that
+ * publishing never locks, and never allocates for synchronous listeners. Asynchronous and UI listeners receive
+ * events in batches: a burst of events published before a batch is delivered costs a single task on the executor,
+ * and UI listeners only see the last event of each batch, since they redraw from the current state of the game.
+ * Exceptions thrown by asynchronous and UI listeners are logged, since there is no caller to report them to.
+ */
+public class EventBus implements GameEventSource, AutoCloseable {
+
+    public enum Delivery {
+        /**
+         * On the publishing thread, before publish returns.
+         */
+        SYNCHRONOUS,
+        /**
+         * In order on the dedicated event thread of the bus, so that slow listeners do not hold up the game.
+         */
+        ASYNCHRONOUS,
+        /**
+         * On the UI executor of the bus, coalescing bursts to their last event.
+         */
+        UI
+    }
+
+    private static final Logger LOGGER = Logger.getLogger(EventBus.class.getName());
+    private static final Subscription[] NO_SUBSCRIPTIONS = new Subscription[0];
+
+    private final Map<EventType, AtomicReference<Subscription[]>> subscriptions = new EnumMap<>(EventType.class);
+    private final Executor uiExecutor;
+    private ExecutorService asyncExecutor;
+    private volatile boolean closed;
+
+    /**
+     * A bus whose UI listeners are called on the publishing thread, for use without a UI toolkit.
+     */
+    public EventBus() {
+        this(Runnable::run);
+    }
+
+    /**
+     * @param uiExecutor runs tasks on the UI thread, e.g. Platform::runLater for JavaFX
+     */
+    public EventBus(Executor uiExecutor) {
+        this.uiExecutor = uiExecutor;
+        for (EventType eventType : EventType.values()) {
+            subscriptions.put(eventType, new AtomicReference<>(NO_SUBSCRIPTIONS));
+        }
+    }
+
+    @Override
+    public void addListeners(EventType eventType, GameEventListener... listeners) {
+        for (GameEventListener listener : listeners) {
+            subscribe(eventType, listener, Delivery.SYNCHRONOUS);
+        }
+    }
+
+    public synchronized void subscribe(EventType eventType, GameEventListener listener, Delivery delivery) {
+        if (closed) {
+            throw new IllegalStateException("Event bus is closed");
+        }
+        Subscription subscription = switch (delivery) {
+            case SYNCHRONOUS -> new Subscription(listener, null, false);
+            case ASYNCHRONOUS -> new Subscription(listener, getAsyncExecutor(), false);
+            case UI -> new Subscription(listener, uiExecutor, true);
+        };
+        AtomicReference<Subscription[]> current = subscriptions.get(eventType);
+        Subscription[] updated = Arrays.copyOf(current.get(), current.get().length + 1);
+        updated[updated.length - 1] = subscription;
+        current.set(updated);
+    }
+
+    public synchronized void unsubscribe(EventType eventType, GameEventListener listener) {
+        AtomicReference<Subscription[]> current = subscriptions.get(eventType);
+        current.set(Arrays.stream(current.get())
+                .filter(subscription -> subscription.listener != listener)
+                .toArray(Subscription[]::new));
+    }
+
+    private ExecutorService getAsyncExecutor() {
+        if (asyncExecutor == null) {
+            asyncExecutor = Executors.newSingleThreadExecutor(runnable -> {
+                Thread thread = new Thread(runnable, "game-events");
+                thread.setDaemon(true);
+                return thread;
+            });
+        }
+        return asyncExecutor;
+    }
+
+    @Override
+    public void notifyListeners(GameEvent event) {
+        if (closed) {
+            return;
+        }
+        for (Subscription subscription : subscriptions.get(event.getEventType()).get()) {
+            subscription.publish(event);
+        }
+    }
+
+    /**
+     * Stops the event thread. Asynchronous events not yet delivered and events published from now on are dropped.
+     */
+    @Override
+    public synchronized void close() {
+        closed = true;
+        if (asyncExecutor != null) {
+            asyncExecutor.shutdownNow();
+            asyncExecutor = null;
+        }
+    }
+
+    private static class Subscription {
+
+        private final GameEventListener listener;
+        private final Executor executor;
+        private final boolean coalescing;
+        private List<GameEvent> pending = new ArrayList<>();
+        private boolean scheduled;
+
+        Subscription(GameEventListener listener, Executor executor, boolean coalescing) {
+            this.listener = listener;
+            this.executor = executor;
+            this.coalescing = coalescing;
+        }
+
+        void publish(GameEvent event) {
+            if (executor == null) {
+                listener.onGameEvent(event);
+                return;
+            }
+            synchronized (this) {
+                pending.add(event);
+                if (scheduled) {
+                    return;
+                }
+                scheduled = true;
+            }
+            boolean submitted = false;
+            try {
+                executor.execute(this::deliver);
+                submitted = true;
+            } catch (RejectedExecutionException e) {
+                // the bus was closed while publishing, so the event is dropped
+            } finally {
+                if (!submitted) {
+                    synchronized (this) {
+                        pending.clear();
+                        scheduled = false;
+                    }
+                }
+            }
+        }
+
+        private void deliver() {
+            List<GameEvent> batch;
+            synchronized (this) {
+                batch = pending;
+                pending = new ArrayList<>();
+                scheduled = false;
+            }
+            if (coalescing) {
+                deliver(batch.get(batch.size() - 1));
+            } else {
+                batch.forEach(this::deliver);
+            }
+        }
+
+        private void deliver(GameEvent event) {
+            try {
+                listener.onGameEvent(event);
+            } catch (RuntimeException e) {
+                LOGGER.log(Level.WARNING, "Listener failed on " + event.getEventType() + " event", e);
+            }
+        }
+    }
+
+}
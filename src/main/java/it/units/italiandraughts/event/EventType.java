@@ -1,5 +1,5 @@
 package it.units.italiandraughts.event;
 
 public enum EventType {
-    GAME_OVER, SWITCH_ACTIVE_PLAYER
+    GAME_OVER, SWITCH_ACTIVE_PLAYER, KNOWN_RESULT, MOVE
 }
@@ -0,0 +1,28 @@
+package it.units.italiandraughts.event;
+
+import it.units.italiandraughts.logic.KnownResult;
+import it.units.italiandraughts.logic.Player;
+
+public class KnownResultEvent extends GameEvent {
+
+    private final Player activePlayer;
+    private final KnownResult result;
+
+    public KnownResultEvent(Object source, Player activePlayer, KnownResult result) {
+        super(source, EventType.KNOWN_RESULT);
+        this.activePlayer = activePlayer;
+        this.result = result;
+    }
+
+    /**
+     * @return the result with perfect play, for the player to move
+     */
+    @Override
+    public KnownResult getPayload() {
+        return result;
+    }
+
+    public Player getActivePlayer() {
+        return activePlayer;
+    }
+}
@@ -0,0 +1,21 @@
+package it.units.italiandraughts.event;
+
+import it.units.italiandraughts.logic.Move;
+
+public class MoveEvent extends GameEvent {
+
+    private final Move move;
+
+    public MoveEvent(Object source, Move move) {
+        super(source, EventType.MOVE);
+        this.move = move;
+    }
+
+    /**
+     * @return the move just made on the board, before the turn passes to the other player
+     */
+    @Override
+    public Move getPayload() {
+        return move;
+    }
+}
@@ -0,0 +1,13 @@
+package it.units.italiandraughts.exception;
+
+public class InvalidPdnException extends RuntimeException {
+
+    public InvalidPdnException(String message) {
+        super(message);
+    }
+
+    public InvalidPdnException(String message, Throwable cause) {
+        super(message, cause);
+    }
+
+}
@@ -0,0 +1,444 @@
+package it.units.italiandraughts.logic;
+
+/**
+ * Compact position model: one bit per black tile, indexed row by row from the top left corner
+ * (square = y * 4 + x / 2), so that the 32 playable tiles fit in an int.
+ */
+public class BitBoard {
+
+    public static final int SQUARES = 32;
+    private static final int SQUARES_PER_ROW = Board.SIZE / 2;
+
+    private int whiteMen;
+    private int whiteKings;
+    private int blackMen;
+    private int blackKings;
+    private boolean whiteToMove;
+    private long zobristKey;
+    private int pieceSquareScore;
+
+    public BitBoard() {
+        this(0, 0, 0, 0, true);
+    }
+
+    public BitBoard(int whiteMen, int whiteKings, int blackMen, int blackKings, boolean whiteToMove) {
+        if (((whiteMen | whiteKings) & (blackMen | blackKings)) != 0 || (whiteMen & whiteKings) != 0
+                || (blackMen & blackKings) != 0) {
+            throw new IllegalArgumentException("A square cannot hold more than one piece");
+        }
+        this.whiteMen = whiteMen;
+        this.whiteKings = whiteKings;
+        this.blackMen = blackMen;
+        this.blackKings = blackKings;
+        this.whiteToMove = whiteToMove;
+        this.zobristKey = Zobrist.hash(this);
+        this.pieceSquareScore = Evaluation.getPieceSquareScore(whiteMen, whiteKings, blackMen, blackKings);
+    }
+
+    public BitBoard(BitBoard other) {
+        this(other.whiteMen, other.whiteKings, other.blackMen, other.blackKings, other.whiteToMove);
+    }
+
+    public static BitBoard initial() {
+        int blackMen = 0;
+        int whiteMen = 0;
+        for (int square = 0; square < SQUARES; square++) {
+            if (getY(square) < 3) {
+                blackMen |= 1 << square;
+            } else if (getY(square) > 4) {
+                whiteMen |= 1 << square;
+            }
+        }
+        return new BitBoard(whiteMen, 0, blackMen, 0, true);
+    }
+
+    public static BitBoard fromBoard(Board board, PieceColor sideToMove) {
+        BitBoard bitBoard = new BitBoard();
+        bitBoard.setSideToMove(sideToMove);
+        for (Tile[] row : board.getTiles()) {
+            for (Tile tile : row) {
+                if (!tile.isEmpty()) {
+                    Piece piece = BlackTile.asBlackTile(tile).getPiece();
+                    bitBoard.placePiece(squareIndex(tile.getX(), tile.getY()), piece.getPieceColor(), piece.getPieceType());
+                }
+            }
+        }
+        return bitBoard;
+    }
+
+    public Board toBoard() {
+        Board board = Board.empty();
+        Tile[][] tiles = board.getTiles();
+        for (int square = 0; square < SQUARES; square++) {
+            if (!isEmpty(square)) {
+                BlackTile blackTile = BlackTile.asBlackTile(tiles[getY(square)][getX(square)]);
+                PieceType pieceType = getPieceType(square);
+                switch (getPieceColor(square)) {
+                    case WHITE -> new WhitePiece(pieceType, blackTile);
+                    case BLACK -> new BlackPiece(pieceType, blackTile);
+                }
+            }
+        }
+        board.recomputeZobristKey();
+        if (!whiteToMove) {
+            board.updateZobristKey(Zobrist.getSideKey());
+        }
+        return board;
+    }
+
+    /**
+     * Parses a PDN FEN string such as "W:W21,22,K5:B1-4", where squares are numbered 1 to 32 from the top left
+     * and kings are prefixed with K.
+     */
+    public static BitBoard fromFen(String fen) {
+        String[] fields = fen.trim().replaceAll("\\.$", "").split(":");
+        BitBoard bitBoard = new BitBoard();
+        switch (fields[0].trim().toUpperCase()) {
+            case "W" -> bitBoard.setSideToMove(PieceColor.WHITE);
+            case "B" -> bitBoard.setSideToMove(PieceColor.BLACK);
+            default -> throw new IllegalArgumentException("Invalid side to move in FEN: " + fen);
+        }
+        for (int i = 1; i < fields.length; i++) {
+            String field = fields[i].trim();
+            if (field.isEmpty()) {
+                continue;
+            }
+            PieceColor pieceColor = switch (Character.toUpperCase(field.charAt(0))) {
+                case 'W' -> PieceColor.WHITE;
+                case 'B' -> PieceColor.BLACK;
+                default -> throw new IllegalArgumentException("Invalid color in FEN: " + fen);
+            };
+            for (String token : field.substring(1).split(",")) {
+                token = token.trim();
+                if (token.isEmpty()) {
+                    continue;
+                }
+                PieceType pieceType = PieceType.MAN;
+                if (Character.toUpperCase(token.charAt(0)) == 'K') {
+                    pieceType = PieceType.KING;
+                    token = token.substring(1);
+                }
+                String[] range = token.split("-");
+                try {
+                    int first = Integer.parseInt(range[0]);
+                    int last = range.length > 1 ? Integer.parseInt(range[1]) : first;
+                    for (int number = first; number <= last; number++) {
+                        if (number < 1 || number > SQUARES) {
+                            throw new IllegalArgumentException("Invalid square in FEN: " + number);
+                        }
+                        bitBoard.placePiece(number - 1, pieceColor, pieceType);
+                    }
+                } catch (NumberFormatException e) {
+                    throw new IllegalArgumentException("Invalid square in FEN: " + token, e);
+                }
+            }
+        }
+        return bitBoard;
+    }
+
+    public String toFen() {
+        return (whiteToMove ? "W" : "B") + ":W" + fenSquares(whiteMen, whiteKings) + ":B"
+                + fenSquares(blackMen, blackKings);
+    }
+
+    private static String fenSquares(int men, int kings) {
+        StringBuilder result = new StringBuilder();
+        for (int pieces = men | kings; pieces != 0; pieces &= pieces - 1) {
+            int square = Integer.numberOfTrailingZeros(pieces);
+            if (result.length() > 0) {
+                result.append(',');
+            }
+            if ((kings & (1 << square)) != 0) {
+                result.append('K');
+            }
+            result.append(square + 1);
+        }
+        return result.toString();
+    }
+
+    public static int squareIndex(int x, int y) {
+        if (!Tile.areValidCoordinatesBiPredicate.test(x, y) || (x + y) % 2 != 0) {
+            throw new IllegalArgumentException("(" + x + ", " + y + ") is not a black tile");
+        }
+        return y * SQUARES_PER_ROW + x / 2;
+    }
+
+    public static int getX(int square) {
+        return (square % SQUARES_PER_ROW) * 2 + getY(square) % 2;
+    }
+
+    public static int getY(int square) {
+        return square / SQUARES_PER_ROW;
+    }
+
+    public void placePiece(int square, PieceColor pieceColor, PieceType pieceType) {
+        if (!isEmpty(square)) {
+            throw new IllegalArgumentException("Square " + square + " is not empty");
+        }
+        int bit = 1 << square;
+        zobristKey ^= Zobrist.getPieceKey(square, pieceColor, pieceType);
+        pieceSquareScore += Evaluation.getPieceSquareScore(square, pieceColor, pieceType);
+        if (PieceColor.WHITE.equals(pieceColor)) {
+            if (PieceType.MAN.equals(pieceType)) {
+                whiteMen |= bit;
+            } else {
+                whiteKings |= bit;
+            }
+        } else {
+            if (PieceType.MAN.equals(pieceType)) {
+                blackMen |= bit;
+            } else {
+                blackKings |= bit;
+            }
+        }
+    }
+
+    public void removePiece(int square) {
+        if (isEmpty(square)) {
+            return;
+        }
+        zobristKey ^= Zobrist.getPieceKey(square, getPieceColor(square), getPieceType(square));
+        pieceSquareScore -= Evaluation.getPieceSquareScore(square, getPieceColor(square), getPieceType(square));
+        int mask = ~(1 << square);
+        whiteMen &= mask;
+        whiteKings &= mask;
+        blackMen &= mask;
+        blackKings &= mask;
+    }
+
+    /**
+     * Makes a move packed by {@link MoveEncoding}, returning the kings it captured, which undoing it needs.
+     */
+    public int makeMove(long move) {
+        int captured = MoveEncoding.getCaptured(move);
+        int capturedKings = captured & (whiteToMove ? blackKings : whiteKings);
+        makeMove(MoveEncoding.getFrom(move), MoveEncoding.getTo(move), captured, MoveEncoding.isPromotion(move));
+        return capturedKings;
+    }
+
+    public void undoMove(long move, int capturedKings) {
+        undoMove(MoveEncoding.getFrom(move), MoveEncoding.getTo(move), MoveEncoding.getCaptured(move), capturedKings,
+                MoveEncoding.isPromotion(move));
+    }
+
+    public void makeMove(int from, int to, int captured, boolean promotion) {
+        int fromBit = 1 << from;
+        int toBit = 1 << to;
+        PieceColor color = getSideToMove();
+        PieceColor opponentColor = whiteToMove ? PieceColor.BLACK : PieceColor.WHITE;
+        PieceType fromType = getPieceType(from);
+        PieceType toType = promotion ? PieceType.KING : fromType;
+        zobristKey ^= Zobrist.getPieceKey(from, color, fromType) ^ Zobrist.getPieceKey(to, color, toType)
+                ^ Zobrist.getSideKey();
+        pieceSquareScore += Evaluation.getPieceSquareScore(to, color, toType)
+                - Evaluation.getPieceSquareScore(from, color, fromType);
+        if (captured != 0) {
+            int opponentMen = whiteToMove ? blackMen : whiteMen;
+            int opponentKings = whiteToMove ? blackKings : whiteKings;
+            pieceSquareScore -= Evaluation.getMaskScore(opponentMen & captured, opponentColor, PieceType.MAN)
+                    + Evaluation.getMaskScore(opponentKings & captured, opponentColor, PieceType.KING);
+        }
+        if (whiteToMove) {
+            zobristKey ^= Zobrist.getMaskKey(blackMen & captured, opponentColor, PieceType.MAN)
+                    ^ Zobrist.getMaskKey(blackKings & captured, opponentColor, PieceType.KING);
+            if ((whiteMen & fromBit) != 0) {
+                whiteMen &= ~fromBit;
+                if (promotion) {
+                    whiteKings |= toBit;
+                } else {
+                    whiteMen |= toBit;
+                }
+            } else {
+                whiteKings = whiteKings & ~fromBit | toBit;
+            }
+            blackMen &= ~captured;
+            blackKings &= ~captured;
+        } else {
+            zobristKey ^= Zobrist.getMaskKey(whiteMen & captured, opponentColor, PieceType.MAN)
+                    ^ Zobrist.getMaskKey(whiteKings & captured, opponentColor, PieceType.KING);
+            if ((blackMen & fromBit) != 0) {
+                blackMen &= ~fromBit;
+                if (promotion) {
+                    blackKings |= toBit;
+                } else {
+                    blackMen |= toBit;
+                }
+            } else {
+                blackKings = blackKings & ~fromBit | toBit;
+            }
+            whiteMen &= ~captured;
+            whiteKings &= ~captured;
+        }
+        whiteToMove = !whiteToMove;
+    }
+
+    public void undoMove(int from, int to, int captured, int capturedKings, boolean promotion) {
+        int fromBit = 1 << from;
+        int toBit = 1 << to;
+        whiteToMove = !whiteToMove;
+        PieceColor color = getSideToMove();
+        PieceColor opponentColor = whiteToMove ? PieceColor.BLACK : PieceColor.WHITE;
+        PieceType toType = getPieceType(to);
+        PieceType fromType = promotion ? PieceType.MAN : toType;
+        zobristKey ^= Zobrist.getPieceKey(from, color, fromType) ^ Zobrist.getPieceKey(to, color, toType)
+                ^ Zobrist.getSideKey()
+                ^ Zobrist.getMaskKey(captured & ~capturedKings, opponentColor, PieceType.MAN)
+                ^ Zobrist.getMaskKey(capturedKings, opponentColor, PieceType.KING);
+        pieceSquareScore += Evaluation.getPieceSquareScore(from, color, fromType)
+                - Evaluation.getPieceSquareScore(to, color, toType);
+        if (captured != 0) {
+            pieceSquareScore += Evaluation.getMaskScore(captured & ~capturedKings, opponentColor, PieceType.MAN)
+                    + Evaluation.getMaskScore(capturedKings, opponentColor, PieceType.KING);
+        }
+        if (whiteToMove) {
+            if (promotion) {
+                whiteKings &= ~toBit;
+                whiteMen |= fromBit;
+            } else if ((whiteMen & toBit) != 0) {
+                whiteMen = whiteMen & ~toBit | fromBit;
+            } else {
+                whiteKings = whiteKings & ~toBit | fromBit;
+            }
+            blackMen |= captured & ~capturedKings;
+            blackKings |= capturedKings;
+        } else {
+            if (promotion) {
+                blackKings &= ~toBit;
+                blackMen |= fromBit;
+            } else if ((blackMen & toBit) != 0) {
+                blackMen = blackMen & ~toBit | fromBit;
+            } else {
+                blackKings = blackKings & ~toBit | fromBit;
+            }
+            whiteMen |= captured & ~capturedKings;
+            whiteKings |= capturedKings;
+        }
+    }
+
+    public boolean isEmpty(int square) {
+        return (getOccupied() & (1 << square)) == 0;
+    }
+
+    public PieceColor getPieceColor(int square) {
+        int bit = 1 << square;
+        if ((getWhitePieces() & bit) != 0) {
+            return PieceColor.WHITE;
+        }
+        if ((getBlackPieces() & bit) != 0) {
+            return PieceColor.BLACK;
+        }
+        return null;
+    }
+
+    public PieceType getPieceType(int square) {
+        int bit = 1 << square;
+        if (((whiteMen | blackMen) & bit) != 0) {
+            return PieceType.MAN;
+        }
+        if (((whiteKings | blackKings) & bit) != 0) {
+            return PieceType.KING;
+        }
+        return null;
+    }
+
+    public int getWhiteMen() {
+        return whiteMen;
+    }
+
+    public int getWhiteKings() {
+        return whiteKings;
+    }
+
+    public int getBlackMen() {
+        return blackMen;
+    }
+
+    public int getBlackKings() {
+        return blackKings;
+    }
+
+    public int getWhitePieces() {
+        return whiteMen | whiteKings;
+    }
+
+    public int getBlackPieces() {
+        return blackMen | blackKings;
+    }
+
+    public int getOccupied() {
+        return whiteMen | whiteKings | blackMen | blackKings;
+    }
+
+    public int getEmpty() {
+        return ~getOccupied();
+    }
+
+    public boolean isWhiteToMove() {
+        return whiteToMove;
+    }
+
+    public PieceColor getSideToMove() {
+        return whiteToMove ? PieceColor.WHITE : PieceColor.BLACK;
+    }
+
+    public void setSideToMove(PieceColor sideToMove) {
+        boolean whiteToMove = PieceColor.WHITE.equals(sideToMove);
+        if (this.whiteToMove != whiteToMove) {
+            this.whiteToMove = whiteToMove;
+            zobristKey ^= Zobrist.getSideKey();
+        }
+    }
+
+    public long getZobristKey() {
+        return zobristKey;
+    }
+
+    /**
+     * The part of the {@link Evaluation} that only depends on where the pieces stand, for white.
+     */
+    public int getPieceSquareScore() {
+        return pieceSquareScore;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (!(o instanceof BitBoard bitBoard)) return false;
+
+        return whiteMen == bitBoard.whiteMen && whiteKings == bitBoard.whiteKings && blackMen == bitBoard.blackMen
+                && blackKings == bitBoard.blackKings && whiteToMove == bitBoard.whiteToMove;
+    }
+
+    @Override
+    public int hashCode() {
+        return Long.hashCode(zobristKey);
+    }
+
+    @Override
+    public String toString() {
+        StringBuilder result = new StringBuilder("BitBoard{ toMove=" + getSideToMove() + "\n");
+        for (int y = 0; y < Board.SIZE; y++) {
+            for (int x = 0; x < Board.SIZE; x++) {
+                if ((x + y) % 2 != 0) {
+                    result.append(' ');
+                    continue;
+                }
+                int bit = 1 << squareIndex(x, y);
+                if ((whiteMen & bit) != 0) {
+                    result.append('w');
+                } else if ((whiteKings & bit) != 0) {
+                    result.append('W');
+                } else if ((blackMen & bit) != 0) {
+                    result.append('b');
+                } else if ((blackKings & bit) != 0) {
+                    result.append('B');
+                } else {
+                    result.append('.');
+                }
+            }
+            result.append('\n');
+        }
+        result.append(" }");
+        return result.toString();
+    }
+}
@@ -1,7 +1,5 @@
 package it.units.italiandraughts.logic;
 
-import it.units.italiandraughts.ui.PieceColor;
-
 public class BlackPiece extends Piece {
 
     private static final int PROMOTION_ROW = 7;
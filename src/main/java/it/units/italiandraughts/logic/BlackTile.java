@@ -2,53 +2,71 @@ package it.units.italiandraughts.logic;
 
 import java.util.HashMap;
 import java.util.Map;
-import java.util.Optional;
 
 public class BlackTile extends Tile {
 
     private Piece piece;
-    private final Map<String, BlackTile> neighbors = new HashMap<>();
+    private final int square;
+    private final BlackTile[] neighbors = new BlackTile[Topology.DIRECTIONS];
 
     BlackTile(int x, int y) {
         super(x, y);
+        square = BitBoard.squareIndex(x, y);
     }
 
     BlackTile(int x, int y, Piece piece) {
-        super(x, y);
+        this(x, y);
         this.piece = piece;
     }
 
     public Map<String, BlackTile> getNeighbors() {
-        return neighbors;
+        Map<String, BlackTile> result = new HashMap<>();
+        for (int direction = 0; direction < Topology.DIRECTIONS; direction++) {
+            if (neighbors[direction] != null) {
+                result.put(Topology.getDirectionName(direction), neighbors[direction]);
+            }
+        }
+        return result;
     }
 
     void addNeighbors(Board board) {
-        if (Tile.areValidCoordinatesBiPredicate.test(x - 1, y - 1)) {
-            neighbors.put("topLeft", BlackTile.asBlackTile(board.getTiles()[y - 1][x - 1]));
-        }
-        if (Tile.areValidCoordinatesBiPredicate.test(x + 1, y - 1)) {
-            neighbors.put("topRight", BlackTile.asBlackTile(board.getTiles()[y - 1][x + 1]));
-        }
-        if (Tile.areValidCoordinatesBiPredicate.test(x - 1, y + 1)) {
-            neighbors.put("bottomLeft", BlackTile.asBlackTile(board.getTiles()[y + 1][x - 1]));
-        }
-        if (Tile.areValidCoordinatesBiPredicate.test(x + 1, y + 1)) {
-            neighbors.put("bottomRight", BlackTile.asBlackTile(board.getTiles()[y + 1][x + 1]));
+        for (int direction = 0; direction < Topology.DIRECTIONS; direction++) {
+            int neighbor = Topology.getNeighbor(square, direction);
+            if (neighbor >= 0) {
+                neighbors[direction] = BlackTile.asBlackTile(
+                        board.getTiles()[BitBoard.getY(neighbor)][BitBoard.getX(neighbor)]);
+            }
         }
     }
 
-    private Optional<String> getAdjacencyDirection(BlackTile other) {
-        return neighbors.keySet().stream()
-                .filter(key -> other.equals(neighbors.get(key)))
-                .findFirst();
+    public int getSquareIndex() {
+        return square;
+    }
+
+    /**
+     * The adjacent tile in the given {@link Topology} direction, null if it is off the board.
+     */
+    public BlackTile getNeighbor(int direction) {
+        return neighbors[direction];
+    }
+
+    /**
+     * The {@link Topology} direction leading to an adjacent tile, -1 if the tile is not adjacent.
+     */
+    public int getNeighborDirection(BlackTile other) {
+        return Topology.getDirection(square, other.square);
     }
 
     public boolean isNeighbor(BlackTile other) {
-        return getAdjacencyDirection(other).isPresent();
+        return getNeighborDirection(other) >= 0;
     }
 
     public String getNeighborKey(BlackTile other){
-        return getAdjacencyDirection(other).orElseThrow(() -> new IllegalArgumentException("You did not pass a neighbor"));
+        int direction = getNeighborDirection(other);
+        if (direction < 0) {
+            throw new IllegalArgumentException("You did not pass a neighbor");
+        }
+        return Topology.getDirectionName(direction);
     }
 
     public static BlackTile asBlackTile(Tile tile) {
@@ -10,25 +10,42 @@ import static it.units.italiandraughts.logic.StaticUtil.matrixToStream;
 public class Board {
     private final Tile[][] tiles;
     public static final int SIZE = 8;
+    private long zobristKey;
 
     public Board() {
-        tiles = new Tile[SIZE][SIZE];
-
-        for (int row = 0; row < Board.SIZE; row++) {
-            for (int col = 0; col < Board.SIZE; col++) {
-                tiles[row][col] = Tile.generateTile(col, row);
-            }
-        }
-        matrixToStream(tiles).filter(tile -> tile instanceof BlackTile).map(BlackTile::asBlackTile)
-                .forEach(blackTile -> blackTile.addNeighbors(this));
+        tiles = generateTiles();
+        addNeighbors();
 
         // TODO remove initPiecesDebug and put initPieces
         //initPieces();
         initPiecesDebug();
+        zobristKey = Zobrist.hash(this);
     }
 
     public Board(Tile[][] tiles){
         this.tiles = tiles;
+        zobristKey = Zobrist.hash(this);
+    }
+
+    static Board empty() {
+        Board board = new Board(generateTiles());
+        board.addNeighbors();
+        return board;
+    }
+
+    private static Tile[][] generateTiles() {
+        Tile[][] tiles = new Tile[SIZE][SIZE];
+        for (int row = 0; row < Board.SIZE; row++) {
+            for (int col = 0; col < Board.SIZE; col++) {
+                tiles[row][col] = Tile.generateTile(col, row);
+            }
+        }
+        return tiles;
+    }
+
+    private void addNeighbors() {
+        matrixToStream(tiles).filter(tile -> tile instanceof BlackTile).map(BlackTile::asBlackTile)
+                .forEach(blackTile -> blackTile.addNeighbors(this));
     }
 
     private void initPieces() {
@@ -57,6 +74,18 @@ public class Board {
         return tiles;
     }
 
+    public long getZobristKey() {
+        return zobristKey;
+    }
+
+    void updateZobristKey(long delta) {
+        zobristKey ^= delta;
+    }
+
+    void recomputeZobristKey() {
+        zobristKey = Zobrist.hash(this);
+    }
+
     @Override
     public boolean equals(Object o) {
         if (this == o) return true;
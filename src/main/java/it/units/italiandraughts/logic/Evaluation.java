@@ -0,0 +1,192 @@
+package it.units.italiandraughts.logic;
+
+/**
+ * Static evaluation of a position, in hundredths of a man. Material, advancement towards the promotion row,
+ * guarding the back row and holding the centre only depend on where each piece stands, so {@link BitBoard} keeps
+ * their sum up to date as moves are made and undone, the same way it keeps its Zobrist key; tempo and mobility are
+ * added when evaluating, from a few mask operations.
+ */
+public final class Evaluation {
+
+    public static final int MAN_VALUE = 100;
+    public static final int KING_VALUE = 250;
+    static final int ADVANCEMENT_BONUS = 3;
+    static final int BACK_ROW_BONUS = 8;
+    static final int MAN_CENTRE_BONUS = 5;
+    static final int KING_CENTRE_BONUS = 10;
+    static final int TEMPO_BONUS = 5;
+    static final int MOBILITY_BONUS = 2;
+    // the scale of the logistic curve turning scores into a share of the evaluation bar
+    private static final double SHARE_SCALE = 150;
+
+    private static final int PIECE_KINDS = 4;
+    private static final int WHITE_MAN = 0;
+    private static final int WHITE_KING = 1;
+    private static final int BLACK_MAN = 2;
+    private static final int BLACK_KING = 3;
+    private static final int CENTRE_MASK;
+    private static final int WHITE_BACK_ROW_MASK;
+    private static final int BLACK_BACK_ROW_MASK;
+    // white minus black, for every square and kind of piece
+    private static final int[] PIECE_SQUARE = new int[BitBoard.SQUARES * PIECE_KINDS];
+    private static final int[] WHITE_MAN_MOVES = new int[BitBoard.SQUARES];
+    private static final int[] BLACK_MAN_MOVES = new int[BitBoard.SQUARES];
+    private static final int[] KING_MOVES = new int[BitBoard.SQUARES];
+
+    static {
+        int centre = 0;
+        for (int square = 0; square < BitBoard.SQUARES; square++) {
+            int x = BitBoard.getX(square);
+            int y = BitBoard.getY(square);
+            if (y >= 3 && y <= 4 && x >= 2 && x <= 5) {
+                centre |= 1 << square;
+            }
+        }
+        CENTRE_MASK = centre;
+        WHITE_BACK_ROW_MASK = Topology.getPromotionMask(PieceColor.BLACK);
+        BLACK_BACK_ROW_MASK = Topology.getPromotionMask(PieceColor.WHITE);
+        for (int square = 0; square < BitBoard.SQUARES; square++) {
+            int whiteAdvancement = Board.SIZE - 1 - BitBoard.getY(square);
+            int blackAdvancement = BitBoard.getY(square);
+            PIECE_SQUARE[square * PIECE_KINDS + WHITE_MAN] =
+                    getManScore(square, whiteAdvancement, WHITE_BACK_ROW_MASK);
+            PIECE_SQUARE[square * PIECE_KINDS + BLACK_MAN] =
+                    -getManScore(square, blackAdvancement, BLACK_BACK_ROW_MASK);
+            PIECE_SQUARE[square * PIECE_KINDS + WHITE_KING] = getKingScore(square);
+            PIECE_SQUARE[square * PIECE_KINDS + BLACK_KING] = -getKingScore(square);
+            WHITE_MAN_MOVES[square] = getMoves(square, Topology.WHITE_DIRECTIONS);
+            BLACK_MAN_MOVES[square] = getMoves(square, Topology.BLACK_DIRECTIONS);
+            KING_MOVES[square] = getMoves(square, Topology.KING_DIRECTIONS);
+        }
+    }
+
+    /**
+     * The evaluation split into its terms, each as white's score minus black's.
+     */
+    public record Breakdown(int material, int advancement, int backRow, int centre, int tempo, int mobility) {
+
+        public int getTotal() {
+            return material + advancement + backRow + centre + tempo + mobility;
+        }
+    }
+
+    private Evaluation() {
+    }
+
+    private static int getManScore(int square, int advancement, int backRowMask) {
+        int bit = 1 << square;
+        return MAN_VALUE + advancement * ADVANCEMENT_BONUS + ((backRowMask & bit) != 0 ? BACK_ROW_BONUS : 0)
+                + ((CENTRE_MASK & bit) != 0 ? MAN_CENTRE_BONUS : 0);
+    }
+
+    private static int getKingScore(int square) {
+        return KING_VALUE + ((CENTRE_MASK & 1 << square) != 0 ? KING_CENTRE_BONUS : 0);
+    }
+
+    private static int getMoves(int square, int[] directions) {
+        int moves = 0;
+        for (int direction : directions) {
+            int neighbor = Topology.getNeighbor(square, direction);
+            if (neighbor >= 0) {
+                moves |= 1 << neighbor;
+            }
+        }
+        return moves;
+    }
+
+    private static int getKind(PieceColor pieceColor, PieceType pieceType) {
+        return (PieceColor.WHITE.equals(pieceColor) ? WHITE_MAN : BLACK_MAN)
+                + (PieceType.MAN.equals(pieceType) ? 0 : WHITE_KING - WHITE_MAN);
+    }
+
+    static int getPieceSquareScore(int square, PieceColor pieceColor, PieceType pieceType) {
+        return PIECE_SQUARE[square * PIECE_KINDS + getKind(pieceColor, pieceType)];
+    }
+
+    static int getMaskScore(int mask, PieceColor pieceColor, PieceType pieceType) {
+        int kind = getKind(pieceColor, pieceType);
+        int score = 0;
+        for (; mask != 0; mask &= mask - 1) {
+            score += PIECE_SQUARE[Integer.numberOfTrailingZeros(mask) * PIECE_KINDS + kind];
+        }
+        return score;
+    }
+
+    static int getPieceSquareScore(int whiteMen, int whiteKings, int blackMen, int blackKings) {
+        return getMaskScore(whiteMen, PieceColor.WHITE, PieceType.MAN)
+                + getMaskScore(whiteKings, PieceColor.WHITE, PieceType.KING)
+                + getMaskScore(blackMen, PieceColor.BLACK, PieceType.MAN)
+                + getMaskScore(blackKings, PieceColor.BLACK, PieceType.KING);
+    }
+
+    private static int getMobility(int men, int kings, int[] manMoves, int empty) {
+        int mobility = 0;
+        for (; men != 0; men &= men - 1) {
+            mobility += Integer.bitCount(manMoves[Integer.numberOfTrailingZeros(men)] & empty);
+        }
+        for (; kings != 0; kings &= kings - 1) {
+            mobility += Integer.bitCount(KING_MOVES[Integer.numberOfTrailingZeros(kings)] & empty);
+        }
+        return mobility;
+    }
+
+    private static int getMobilityScore(BitBoard bitBoard) {
+        int empty = bitBoard.getEmpty();
+        return (getMobility(bitBoard.getWhiteMen(), bitBoard.getWhiteKings(), WHITE_MAN_MOVES, empty)
+                - getMobility(bitBoard.getBlackMen(), bitBoard.getBlackKings(), BLACK_MAN_MOVES, empty))
+                * MOBILITY_BONUS;
+    }
+
+    /**
+     * @return the score for white, positive when white is better
+     */
+    public static int evaluateForWhite(BitBoard bitBoard) {
+        return bitBoard.getPieceSquareScore() + (bitBoard.isWhiteToMove() ? TEMPO_BONUS : -TEMPO_BONUS)
+                + getMobilityScore(bitBoard);
+    }
+
+    /**
+     * @return the score for the side to move, as a negamax search wants it
+     */
+    public static int evaluate(BitBoard bitBoard) {
+        int score = evaluateForWhite(bitBoard);
+        return bitBoard.isWhiteToMove() ? score : -score;
+    }
+
+    public static int evaluateForWhite(Position position) {
+        return evaluateForWhite(position.toBitBoard());
+    }
+
+    /**
+     * Evaluates the position from scratch, term by term, to show how a score is made up.
+     */
+    public static Breakdown getBreakdown(BitBoard bitBoard) {
+        int material = (Integer.bitCount(bitBoard.getWhiteMen()) - Integer.bitCount(bitBoard.getBlackMen()))
+                * MAN_VALUE
+                + (Integer.bitCount(bitBoard.getWhiteKings()) - Integer.bitCount(bitBoard.getBlackKings()))
+                * KING_VALUE;
+        int advancement = 0;
+        for (int men = bitBoard.getWhiteMen(); men != 0; men &= men - 1) {
+            advancement += (Board.SIZE - 1 - BitBoard.getY(Integer.numberOfTrailingZeros(men))) * ADVANCEMENT_BONUS;
+        }
+        for (int men = bitBoard.getBlackMen(); men != 0; men &= men - 1) {
+            advancement -= BitBoard.getY(Integer.numberOfTrailingZeros(men)) * ADVANCEMENT_BONUS;
+        }
+        int backRow = (Integer.bitCount(bitBoard.getWhiteMen() & WHITE_BACK_ROW_MASK)
+                - Integer.bitCount(bitBoard.getBlackMen() & BLACK_BACK_ROW_MASK)) * BACK_ROW_BONUS;
+        int centre = (Integer.bitCount(bitBoard.getWhiteMen() & CENTRE_MASK)
+                - Integer.bitCount(bitBoard.getBlackMen() & CENTRE_MASK)) * MAN_CENTRE_BONUS
+                + (Integer.bitCount(bitBoard.getWhiteKings() & CENTRE_MASK)
+                - Integer.bitCount(bitBoard.getBlackKings() & CENTRE_MASK)) * KING_CENTRE_BONUS;
+        int tempo = bitBoard.isWhiteToMove() ? TEMPO_BONUS : -TEMPO_BONUS;
+        return new Breakdown(material, advancement, backRow, centre, tempo, getMobilityScore(bitBoard));
+    }
+
+    /**
+     * @return the share of an evaluation bar to fill with white for the given score for white, from 0 to 1
+     */
+    public static double getWhiteShare(int whiteScore) {
+        return 1 / (1 + Math.exp(-whiteScore / SHARE_SCALE));
+    }
+
+}
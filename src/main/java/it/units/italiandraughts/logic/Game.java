@@ -2,82 +2,87 @@ package it.units.italiandraughts.logic;
 
 import it.units.italiandraughts.event.*;
 import it.units.italiandraughts.exception.IllegalButtonClickException;
-import javafx.scene.media.Media;
-import javafx.scene.media.MediaPlayer;
-import javafx.util.Duration;
-import org.jgrapht.GraphPath;
 
-import java.io.File;
-import java.net.URL;
 import java.util.*;
-
-import static it.units.italiandraughts.logic.StaticUtil.*;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
 
 public class Game implements GameEventSource {
+    private static final int LEGAL_MOVES_CACHE_CAPACITY = 1024;
+
     private final Board board;
     private final Player player1;
     private final Player player2;
     private Player activePlayer;
     private BlackTile activeTile;
     private final List<Move> moves;
-    private final MediaPlayer mediaPlayer;
-    private List<GraphPath<BlackTile, Edge>> absoluteLongestPaths;
-    private final HashMap<EventType, List<GameEventListener>> listenersMap;
+    private final MoveGenerator moveGenerator;
+    private final MoveList moveList;
+    private final MovabilityTracker movabilityTracker;
+    private final LegalMovesCache legalMovesCache;
+    private long[] legalMoves;
+    private final GameHistory history;
+    private KnownResultProbe knownResultProbe;
+    private final EventBus eventBus;
 
     public Game(Board board, Player player1, Player player2) {
+        this(board, player1, player2, new EventBus());
+    }
+
+    public Game(Board board, Player player1, Player player2, EventBus eventBus) {
         this.board = board;
         this.player1 = player1;
         this.player2 = player2;
         this.activePlayer = player1;
-        listenersMap = new HashMap<>();
+        this.eventBus = eventBus;
         moves = new ArrayList<>();
-        mediaPlayer = initMediaPlayer();
-        updateMovablePiecesOfPlayer(activePlayer);
+        moveGenerator = new MoveGenerator();
+        moveList = new MoveList();
+        movabilityTracker = new MovabilityTracker(board);
+        legalMovesCache = new LegalMovesCache(LEGAL_MOVES_CACHE_CAPACITY);
+        history = new GameHistory(getPosition());
         updateAbsoluteLongestPath();
     }
 
     @Override
     public void addListeners(EventType eventType, GameEventListener... listeners) {
-        if (!listenersMap.containsKey(eventType)) {
-            listenersMap.put(eventType, new LinkedList<>());
-        }
-        listenersMap.get(eventType).addAll(List.of(listeners));
+        eventBus.addListeners(eventType, listeners);
     }
 
     @Override
     public void notifyListeners(GameEvent event) {
-        listenersMap.get(event.getEventType()).forEach(listener -> listener.onGameEvent(event));
+        eventBus.notifyListeners(event);
     }
 
     private void newTurn() {
         setActiveTile(null);
         Player inactivePlayer = activePlayer.equals(player1) ? player2 : player1;
-        updateMovablePiecesOfPlayer(inactivePlayer);
-        if (countMovablePiecesOfPlayer(inactivePlayer) == 0) {
+        if (movabilityTracker.getMovableCount(inactivePlayer.getPieceColor()) == 0) {
             notifyListeners(new GameOverEvent(this, activePlayer));
         }
         toggleActivePlayer();
         updateAbsoluteLongestPath();
+        if (knownResultProbe != null && legalMoves.length > 0) {
+            KnownResult result = knownResultProbe.probe(BitBoard.fromBoard(board, activePlayer.getPieceColor()));
+            if (result != null) {
+                notifyListeners(new KnownResultEvent(this, activePlayer, result));
+            }
+        }
     }
 
     private void updateAbsoluteLongestPath() {
-        absoluteLongestPaths = matrixToStream(board.getTiles())
-                .filter(tile -> !tile.isEmpty())
-                .map(BlackTile::asBlackTile)
-                .filter(tile -> tile.getPiece().getPieceColor().equals(activePlayer.getPieceColor())
-                        && tile.getPiece().isMovable())
-                .map(tile -> new Graph(tile, this))
-                .flatMap(graph -> graph.getLongestPaths().stream())
-                .collect(Graph.getLongestPathsCollector());
-    }
-
-    private int countMovablePiecesOfPlayer(Player player){
-        return (int) matrixToStream(board.getTiles())
-                .filter(tile -> !tile.isEmpty())
-                .map(BlackTile::asBlackTile)
-                .filter(tile -> tile.getPiece().getPieceColor().equals(player.getPieceColor())
-                        && tile.getPiece().isMovable())
-                .count();
+        PieceColor sideToMove = activePlayer.getPieceColor();
+        long zobristKey = PieceColor.WHITE.equals(sideToMove)
+                ? board.getZobristKey() : board.getZobristKey() ^ Zobrist.getSideKey();
+        legalMoves = legalMovesCache.get(zobristKey, this::getPosition);
+        if (legalMoves == null) {
+            BitBoard bitBoard = BitBoard.fromBoard(board, sideToMove);
+            legalMoves = new long[moveGenerator.generate(bitBoard, moveList)];
+            for (int i = 0; i < legalMoves.length; i++) {
+                legalMoves[i] = moveList.getMove(i);
+            }
+            legalMovesCache.put(Position.of(bitBoard), legalMoves);
+        }
     }
 
     private void toggleActivePlayer() {
@@ -90,23 +95,29 @@ public class Game implements GameEventSource {
         notifyListeners(new SwitchActivePlayerEvent(this, activePlayer, oldActivePlayer));
     }
 
-    private void playSound() {
-        new Thread(() -> {
-            mediaPlayer.play();
-            mediaPlayer.seek(new Duration(0));
-        }).start();
-    }
-
     public Move moveAndLog(Piece piece, List<BlackTile> steps) {
-        Move move = new Move(piece, piece.getBlackTile(), steps.get(steps.size() - 1), steps);
+        long encodedMove = findLegalMove(steps);
+        Move move = new Move(board, piece, piece.getBlackTile(), steps.get(steps.size() - 1), steps);
         move.make();
+        movabilityTracker.update(move.getTouchedTiles());
         moves.add(move);
+        history.play(encodedMove);
         return move;
     }
 
+    private long findLegalMove(List<BlackTile> steps) {
+        for (long legalMove : legalMoves) {
+            if (MoveEncoding.getStepCount(legalMove) == steps.size() && IntStream.range(0, steps.size())
+                    .allMatch(step -> MoveEncoding.getStep(legalMove, step) == steps.get(step).getSquareIndex())) {
+                return legalMove;
+            }
+        }
+        throw new IllegalArgumentException("The steps do not make a legal move");
+    }
+
     public void makeMove(Piece piece, List<BlackTile> steps) {
-        playSound();
-        moveAndLog(piece, steps);
+        Move move = moveAndLog(piece, steps);
+        notifyListeners(new MoveEvent(this, move));
         newTurn();
     }
 
@@ -116,28 +127,39 @@ public class Game implements GameEventSource {
         }
         Move move = moves.remove(moves.size() - 1);
         move.undo();
+        movabilityTracker.update(move.getTouchedTiles());
+        history.undo();
     }
 
-    private MediaPlayer initMediaPlayer() {
-        String path = "sounds" + File.separatorChar + "movePiece.mp3";
-        URL resource = Objects.requireNonNull(getClass().getResource(path));
-        Media media = new Media(resource.toString());
-        return new MediaPlayer(media);
+    public void undo() {
+        undoLastMove();
+        newTurn();
     }
 
-    private void updateMovablePiecesOfPlayer(Player player) {
-        matrixToStream(board.getTiles())
-                .filter(tile -> !tile.isEmpty())
-                .map(BlackTile::asBlackTile)
-                .filter(tile -> tile.getPiece().getPieceColor().equals(player.getPieceColor()))
-                .forEach(tile -> tile.getPiece().updateMovable());
+    public boolean canRedo() {
+        return history.canRedo();
     }
 
-    public void undo() {
-        undoLastMove();
+    public void redo() {
+        if (!history.canRedo()) {
+            throw new IllegalButtonClickException("An illegal click was performed on the redo button");
+        }
+        Move move = new Move(board, history.getMove(history.getPly()));
+        move.make();
+        movabilityTracker.update(move.getTouchedTiles());
+        moves.add(move);
+        history.redo();
         newTurn();
     }
 
+    /**
+     * The position at any ply of the game, undone moves that can still be redone included, computed without
+     * touching the board.
+     */
+    public Position getPositionAt(int ply) {
+        return history.getPositionAt(ply);
+    }
+
     public BlackTile getActiveTile() {
         return activeTile;
     }
@@ -146,6 +168,13 @@ public class Game implements GameEventSource {
         this.activeTile = tile;
     }
 
+    /**
+     * The bus the events of this game are published on, to subscribe listeners with other kinds of delivery.
+     */
+    public EventBus getEventBus() {
+        return eventBus;
+    }
+
     public Board getBoard() {
         return board;
     }
@@ -155,11 +184,43 @@ public class Game implements GameEventSource {
         return player1;
     }
 
-    public List<GraphPath<BlackTile, Edge>> getAbsoluteLongestPaths() {
-        return absoluteLongestPaths;
+    public List<List<BlackTile>> getAbsoluteLongestPaths() {
+        return Arrays.stream(legalMoves)
+                .mapToObj(move -> MoveEncoding.getSteps(move, board))
+                .collect(Collectors.toList());
+    }
+
+    /**
+     * The legal moves of the active player, packed by {@link MoveEncoding}.
+     */
+    public long[] getLegalMoves() {
+        return legalMoves.clone();
     }
 
 
+    /**
+     * Reports the exact result of the positions known to the given probe, such as a
+     * {@code it.units.italiandraughts.tablebase.Tablebase}, as soon as they are reached; null for none.
+     */
+    public void setKnownResultProbe(KnownResultProbe knownResultProbe) {
+        this.knownResultProbe = knownResultProbe;
+    }
+
+    /**
+     * The {@link Evaluation} of the current position for white, e.g. for an evaluation bar.
+     */
+    public int getEvaluation() {
+        return Evaluation.evaluateForWhite(BitBoard.fromBoard(board, activePlayer.getPieceColor()));
+    }
+
+    public Position getPosition() {
+        return Position.of(board, activePlayer.getPieceColor());
+    }
+
+    public LegalMovesCache getLegalMovesCache() {
+        return legalMovesCache;
+    }
+
     public Player getActivePlayer() {
         return activePlayer;
     }
@@ -0,0 +1,215 @@
+package it.units.italiandraughts.logic;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Moves of a game packed by {@link MoveEncoding}, with a cursor that can be moved back and forth without losing the
+ * moves after it. A snapshot of the position is kept every {@value #SNAPSHOT_INTERVAL} plies, so that seeking any
+ * ply replays at most that many moves. Playing a move other than the next one turns the rest of the line into a
+ * {@link Variation}, which can be entered again later. Variations form a tree: the ones branching from moves that
+ * leave the current line go with those moves into the new variation.
+ */
+public class GameHistory {
+
+    static final int SNAPSHOT_INTERVAL = 16;
+
+    private BitBoard current;
+    private final List<Position> snapshots = new ArrayList<>();
+    private final List<Variation> variations = new ArrayList<>();
+    private long[] moves = new long[64];
+    private int[] capturedKings = new int[64];
+    private int length;
+    private int ply;
+
+    /**
+     * Moves that were replaced by another line at the given ply, with the variations branching from them. Plies
+     * count from the start of the game.
+     */
+    public static final class Variation {
+
+        private final int ply;
+        private final long[] moves;
+        private final List<Variation> variations;
+
+        private Variation(int ply, long[] moves, List<Variation> variations) {
+            this.ply = ply;
+            this.moves = moves;
+            this.variations = variations;
+        }
+
+        public int getPly() {
+            return ply;
+        }
+
+        public long[] getMoves() {
+            return moves.clone();
+        }
+
+        public List<Variation> getVariations() {
+            return Collections.unmodifiableList(variations);
+        }
+    }
+
+    public GameHistory(Position start) {
+        current = start.toBitBoard();
+        snapshots.add(start);
+    }
+
+    public Position getStartPosition() {
+        return snapshots.get(0);
+    }
+
+    public Position getPosition() {
+        return Position.of(current);
+    }
+
+    public int getPly() {
+        return ply;
+    }
+
+    public int size() {
+        return length;
+    }
+
+    public long getMove(int ply) {
+        if (ply < 0 || ply >= length) {
+            throw new IndexOutOfBoundsException("No move at ply " + ply);
+        }
+        return moves[ply];
+    }
+
+    public boolean canUndo() {
+        return ply > 0;
+    }
+
+    public boolean canRedo() {
+        return ply < length;
+    }
+
+    /**
+     * Plays a move at the cursor. If it is the next move of the line it is a redo, otherwise the rest of the line
+     * is kept as a variation.
+     */
+    public void play(long move) {
+        if (ply < length && moves[ply] == move) {
+            redo();
+            return;
+        }
+        if (ply < length) {
+            branch();
+        }
+        if (length == moves.length) {
+            moves = Arrays.copyOf(moves, length * 2);
+            capturedKings = Arrays.copyOf(capturedKings, length * 2);
+        }
+        moves[length++] = move;
+        redo();
+    }
+
+    public void undo() {
+        if (!canUndo()) {
+            throw new IllegalStateException("There is no move to undo");
+        }
+        ply--;
+        current.undoMove(moves[ply], capturedKings[ply]);
+    }
+
+    public void redo() {
+        if (!canRedo()) {
+            throw new IllegalStateException("There is no move to redo");
+        }
+        capturedKings[ply] = current.makeMove(moves[ply]);
+        ply++;
+        if (ply % SNAPSHOT_INTERVAL == 0 && snapshots.size() == ply / SNAPSHOT_INTERVAL) {
+            snapshots.add(Position.of(current));
+        }
+    }
+
+    /**
+     * Moves the cursor to the given ply, stepping from the cursor when it is close and replaying from the nearest
+     * snapshot otherwise.
+     */
+    public void seek(int targetPly) {
+        if (targetPly < 0 || targetPly > length) {
+            throw new IndexOutOfBoundsException("No ply " + targetPly);
+        }
+        int snapshot = Math.min(targetPly / SNAPSHOT_INTERVAL, snapshots.size() - 1);
+        int snapshotPly = snapshot * SNAPSHOT_INTERVAL;
+        if (Math.abs(targetPly - ply) > targetPly - snapshotPly) {
+            current = snapshots.get(snapshot).toBitBoard();
+            ply = snapshotPly;
+        }
+        while (ply > targetPly) {
+            undo();
+        }
+        while (ply < targetPly) {
+            redo();
+        }
+    }
+
+    /**
+     * The position at the given ply, replayed from the nearest snapshot without moving the cursor.
+     */
+    public Position getPositionAt(int targetPly) {
+        if (targetPly < 0 || targetPly > length) {
+            throw new IndexOutOfBoundsException("No ply " + targetPly);
+        }
+        if (targetPly == ply) {
+            return getPosition();
+        }
+        int snapshot = Math.min(targetPly / SNAPSHOT_INTERVAL, snapshots.size() - 1);
+        BitBoard bitBoard = snapshots.get(snapshot).toBitBoard();
+        for (int i = snapshot * SNAPSHOT_INTERVAL; i < targetPly; i++) {
+            bitBoard.makeMove(moves[i]);
+        }
+        return Position.of(bitBoard);
+    }
+
+    public List<Variation> getVariations() {
+        return Collections.unmodifiableList(variations);
+    }
+
+    /**
+     * Seeks the ply the variation starts at and makes it the current line, keeping the replaced moves as a
+     * variation in its place.
+     */
+    public void enterVariation(Variation variation) {
+        int index = variations.indexOf(variation);
+        if (index < 0) {
+            throw new IllegalArgumentException("The variation does not belong to this history");
+        }
+        seek(variation.ply);
+        variations.remove(index);
+        if (ply < length) {
+            branch();
+        }
+        if (length + variation.moves.length > moves.length) {
+            moves = Arrays.copyOf(moves, length + variation.moves.length);
+            capturedKings = Arrays.copyOf(capturedKings, moves.length);
+        }
+        System.arraycopy(variation.moves, 0, moves, length, variation.moves.length);
+        length += variation.moves.length;
+        variations.addAll(variation.variations);
+    }
+
+    /**
+     * Turns the moves after the cursor into a variation, taking along the variations that branch from them.
+     */
+    private void branch() {
+        List<Variation> branching = new ArrayList<>();
+        variations.removeIf(variation -> variation.ply > ply && branching.add(variation));
+        variations.add(new Variation(ply, Arrays.copyOfRange(moves, ply, length), branching));
+        truncate();
+    }
+
+    private void truncate() {
+        length = ply;
+        while (snapshots.size() > 1 && (snapshots.size() - 1) * SNAPSHOT_INTERVAL > ply) {
+            snapshots.remove(snapshots.size() - 1);
+        }
+    }
+
+}
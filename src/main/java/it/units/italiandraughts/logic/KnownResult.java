@@ -0,0 +1,18 @@
+package it.units.italiandraughts.logic;
+
+/**
+ * The exact result of a position for the side to move, with the plies to the end of the game when they are known
+ * and the result is not a draw.
+ */
+public record KnownResult(Outcome outcome, int distance) {
+
+    public static final int UNKNOWN_DISTANCE = -1;
+
+    public enum Outcome {
+        WIN, DRAW, LOSS
+    }
+
+    public boolean hasDistance() {
+        return distance != UNKNOWN_DISTANCE;
+    }
+}
@@ -0,0 +1,12 @@
+package it.units.italiandraughts.logic;
+
+/**
+ * Knows the exact result of some positions, like an endgame tablebase.
+ */
+public interface KnownResultProbe {
+
+    /**
+     * @return the result of the position for the side to move, null if it is not known
+     */
+    KnownResult probe(BitBoard position);
+}
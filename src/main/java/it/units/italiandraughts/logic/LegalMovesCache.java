@@ -0,0 +1,71 @@
+package it.units.italiandraughts.logic;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.function.Supplier;
+
+/**
+ * Bounded cache of the legal moves of already analysed positions, packed by {@link MoveEncoding}, evicting the least
+ * recently used position when full. Entries are looked up by Zobrist key and the position is only compared on a key
+ * match, so a lookup does not need to build it. Stored arrays are shared and must not be modified.
+ */
+public class LegalMovesCache {
+
+    private record Entry(Position position, long[] legalMoves) {
+    }
+
+    private final Map<Long, Entry> entries;
+    private long hits;
+    private long misses;
+
+    public LegalMovesCache(int capacity) {
+        if (capacity < 1) {
+            throw new IllegalArgumentException("Capacity must be positive");
+        }
+        entries = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<Long, Entry> eldest) {
+                return size() > capacity;
+            }
+        };
+    }
+
+    public long[] get(Position position) {
+        return get(position.getZobristKey(), () -> position);
+    }
+
+    /**
+     * @param zobristKey the key of the position, as given by {@link Position#getZobristKey()}
+     * @param position   supplies the position to confirm a key match with
+     */
+    public long[] get(long zobristKey, Supplier<Position> position) {
+        Entry entry = entries.get(zobristKey);
+        if (entry == null || !entry.position().equals(position.get())) {
+            misses++;
+            return null;
+        }
+        hits++;
+        return entry.legalMoves();
+    }
+
+    public void put(Position position, long[] legalMoves) {
+        entries.put(position.getZobristKey(), new Entry(position, legalMoves));
+    }
+
+    public int size() {
+        return entries.size();
+    }
+
+    public void clear() {
+        entries.clear();
+    }
+
+    public long getHits() {
+        return hits;
+    }
+
+    public long getMisses() {
+        return misses;
+    }
+
+}
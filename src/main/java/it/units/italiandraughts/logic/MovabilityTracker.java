@@ -0,0 +1,68 @@
+package it.units.italiandraughts.logic;
+
+import java.util.Collection;
+
+/**
+ * Keeps the movable pieces of both players up to date after each move, re-evaluating only the pieces close enough
+ * to the squares the move touched for their movability to have changed.
+ */
+class MovabilityTracker {
+
+    private static final int ALL_SQUARES = -1;
+    // the squares within two diagonal steps of each square, the farthest a capture of a piece can look
+    private static final int[] AREA = new int[BitBoard.SQUARES];
+
+    static {
+        for (int square = 0; square < BitBoard.SQUARES; square++) {
+            for (int other = 0; other < BitBoard.SQUARES; other++) {
+                if (Math.abs(BitBoard.getX(square) - BitBoard.getX(other)) <= 2
+                        && Math.abs(BitBoard.getY(square) - BitBoard.getY(other)) <= 2) {
+                    AREA[square] |= 1 << other;
+                }
+            }
+        }
+    }
+
+    private final Board board;
+    private int whiteMovable;
+    private int blackMovable;
+
+    MovabilityTracker(Board board) {
+        this.board = board;
+        refresh(ALL_SQUARES);
+    }
+
+    void update(Collection<BlackTile> touchedTiles) {
+        int area = 0;
+        for (BlackTile tile : touchedTiles) {
+            area |= AREA[tile.getSquareIndex()];
+        }
+        refresh(area);
+    }
+
+    private void refresh(int area) {
+        whiteMovable &= ~area;
+        blackMovable &= ~area;
+        for (int remaining = area; remaining != 0; remaining &= remaining - 1) {
+            int square = Integer.numberOfTrailingZeros(remaining);
+            Tile tile = board.getTiles()[BitBoard.getY(square)][BitBoard.getX(square)];
+            if (tile.isEmpty()) {
+                continue;
+            }
+            Piece piece = BlackTile.asBlackTile(tile).getPiece();
+            piece.updateMovable();
+            if (piece.isMovable()) {
+                if (piece.getPieceColor() == PieceColor.WHITE) {
+                    whiteMovable |= 1 << square;
+                } else {
+                    blackMovable |= 1 << square;
+                }
+            }
+        }
+    }
+
+    int getMovableCount(PieceColor color) {
+        return Integer.bitCount(color == PieceColor.WHITE ? whiteMovable : blackMovable);
+    }
+
+}
@@ -6,6 +6,7 @@ import java.util.Optional;
 
 public class Move {
 
+    private final Board board;
     private final Piece piece;
     private final BlackTile source;
     private final BlackTile destination;
@@ -13,7 +14,8 @@ public class Move {
     private final List<BlackTile> steps;
     private boolean hasPromoted;
 
-    public Move(Piece piece, BlackTile source, BlackTile destination, List<BlackTile> steps) {
+    public Move(Board board, Piece piece, BlackTile source, BlackTile destination, List<BlackTile> steps) {
+        this.board = board;
         this.piece = piece;
         this.source = source;
         this.destination = destination;
@@ -21,7 +23,19 @@ public class Move {
         this.eatenPieces = new ArrayList<>();
     }
 
+    /**
+     * Decodes a move packed by {@link MoveEncoding} on the given board.
+     */
+    public Move(Board board, long move) {
+        this(board, MoveEncoding.getSteps(move, board));
+    }
+
+    private Move(Board board, List<BlackTile> steps) {
+        this(board, steps.get(0).getPiece(), steps.get(0), steps.get(steps.size() - 1), steps);
+    }
+
     public void make() {
+        long zobristDelta = Zobrist.getPieceKey(source, piece);
         for (int i = 1; i < steps.size(); i++) {
             final BlackTile landingTile = steps.get(i);
             boolean wasMan = piece.isMan();
@@ -30,15 +44,27 @@ public class Move {
             eatenPieceOptional.ifPresent(eatenPieces::add);
             hasPromoted = wasMan && isKing;
         }
+        board.updateZobristKey(zobristDelta ^ getEatenPiecesKey() ^ Zobrist.getPieceKey(destination, piece)
+                ^ Zobrist.getSideKey());
     }
 
     public void undo() {
+        long zobristDelta = Zobrist.getPieceKey(destination, piece);
         eatenPieces.forEach(EatenPiece::restore);
         if (hasPromoted) {
             piece.setPieceType(PieceType.MAN);
         }
         piece.move(source);
+        board.updateZobristKey(zobristDelta ^ getEatenPiecesKey() ^ Zobrist.getPieceKey(source, piece)
+                ^ Zobrist.getSideKey());
+    }
 
+    private long getEatenPiecesKey() {
+        long key = 0;
+        for (EatenPiece eatenPiece : eatenPieces) {
+            key ^= Zobrist.getPieceKey(eatenPiece.getPosition(), eatenPiece.getPiece());
+        }
+        return key;
     }
 
     public Piece getPiece() {
@@ -57,7 +83,17 @@ public class Move {
         return destination;
     }
 
+    public List<BlackTile> getSteps() {
+        return steps;
+    }
+
     public List<EatenPiece> getEatenPieces() {
         return eatenPieces;
     }
+
+    public List<BlackTile> getTouchedTiles() {
+        List<BlackTile> touchedTiles = new ArrayList<>(steps);
+        eatenPieces.forEach(eatenPiece -> touchedTiles.add(eatenPiece.getPosition()));
+        return touchedTiles;
+    }
 }
@@ -0,0 +1,110 @@
+package it.units.italiandraughts.logic;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Packs a legal move into one long: the captured squares mask in the low 32 bits, the origin square in the next 5,
+ * a promotion flag, then the {@link Topology} direction of every step in 2 bits each. The landing squares are
+ * recovered by walking the directions from the origin, one tile for a simple move and two for each capture.
+ * 0 is never a legal move and stands for no move.
+ */
+public final class MoveEncoding {
+
+    public static final long NONE = 0;
+    public static final int MAX_STEPS = 13;
+
+    private static final long CAPTURED_MASK = 0xffffffffL;
+    private static final int FROM_SHIFT = 32;
+    private static final int FROM_MASK = 0x1f;
+    private static final long PROMOTION_BIT = 1L << 37;
+    private static final int DIRECTIONS_SHIFT = 38;
+
+    private MoveEncoding() {
+    }
+
+    /**
+     * @param directions the direction of each step, the first one in the lowest 2 bits
+     */
+    static long encode(int from, long directions, int captured, boolean promotion) {
+        return captured & CAPTURED_MASK | (long) from << FROM_SHIFT | (promotion ? PROMOTION_BIT : 0)
+                | directions << DIRECTIONS_SHIFT;
+    }
+
+    public static int getFrom(long move) {
+        return (int) (move >>> FROM_SHIFT) & FROM_MASK;
+    }
+
+    public static int getTo(long move) {
+        return getStep(move, getStepCount(move) - 1);
+    }
+
+    public static int getCaptured(long move) {
+        return (int) move;
+    }
+
+    public static boolean isCapture(long move) {
+        return getCaptured(move) != 0;
+    }
+
+    public static boolean isPromotion(long move) {
+        return (move & PROMOTION_BIT) != 0;
+    }
+
+    /**
+     * The number of squares the moving piece visits, origin included.
+     */
+    public static int getStepCount(long move) {
+        return isCapture(move) ? Integer.bitCount(getCaptured(move)) + 1 : 2;
+    }
+
+    /**
+     * Identifies a move among the legal moves of its position in 31 bits, from its origin, whether it captures and
+     * its directions behind a marker bit that tells how many there are; the path determines the rest. Never 0.
+     */
+    public static int getKey(long move) {
+        int steps = getStepCount(move) - 1;
+        int directions = (int) (move >>> DIRECTIONS_SHIFT) & (1 << 2 * steps) - 1;
+        return getFrom(move) | (isCapture(move) ? 1 << 5 : 0) | (1 << 2 * steps | directions) << 6;
+    }
+
+    public static int getStep(long move, int step) {
+        int square = getFrom(move);
+        boolean capture = isCapture(move);
+        for (int i = 0; i < step; i++) {
+            int direction = (int) (move >>> DIRECTIONS_SHIFT + 2 * i) & 3;
+            square = capture ? Topology.getJump(square, direction) : Topology.getNeighbor(square, direction);
+        }
+        return square;
+    }
+
+    public static int[] getPath(long move) {
+        int[] path = new int[getStepCount(move)];
+        for (int step = 0; step < path.length; step++) {
+            path[step] = getStep(move, step);
+        }
+        return path;
+    }
+
+    public static List<BlackTile> getSteps(long move, Board board) {
+        int[] path = getPath(move);
+        List<BlackTile> steps = new ArrayList<>(path.length);
+        for (int square : path) {
+            steps.add(BlackTile.asBlackTile(board.getTiles()[BitBoard.getY(square)][BitBoard.getX(square)]));
+        }
+        return steps;
+    }
+
+    /**
+     * Numeric notation of a move, squares numbered 1 to 32: "22-18" for a simple move, "21x14x5" for a capture.
+     */
+    public static String toNotation(long move) {
+        int[] path = getPath(move);
+        StringBuilder result = new StringBuilder().append(path[0] + 1);
+        for (int step = 1; step < path.length; step++) {
+            result.append(isCapture(move) ? 'x' : '-').append(path[step] + 1);
+        }
+        return result.toString();
+    }
+
+}
@@ -0,0 +1,138 @@
+package it.units.italiandraughts.logic;
+
+/**
+ * Legal move generator working on a {@link BitBoard}. Capture sequences are explored depth first into
+ * preallocated arrays, so generating moves does not allocate and never changes the position it is given.
+ * Instances are not thread safe, {@link #generateLegalMoves(BitBoard)} can be called from any thread.
+ */
+public class MoveGenerator {
+
+    private static final ThreadLocal<MoveGenerator> THREAD_GENERATOR = ThreadLocal.withInitial(MoveGenerator::new);
+
+    private MoveList moves;
+    private int opponentMen;
+    private int opponentKings;
+    private int occupied;
+    private int[] manDirections;
+    private int promotionMask;
+    private int captured;
+    private int capturedKings;
+    private int origin;
+    private long directions;
+    private long bestPrecedence;
+
+    /**
+     * Generates into a new list with a generator private to the calling thread, so that any number of positions can
+     * be analysed concurrently.
+     */
+    public static MoveList generateLegalMoves(BitBoard bitBoard) {
+        MoveList moves = new MoveList();
+        THREAD_GENERATOR.get().generate(bitBoard, moves);
+        return moves;
+    }
+
+    public int generate(BitBoard bitBoard, MoveList moves) {
+        this.moves = moves;
+        moves.clear();
+        boolean white = bitBoard.isWhiteToMove();
+        int ownMen = white ? bitBoard.getWhiteMen() : bitBoard.getBlackMen();
+        int ownKings = white ? bitBoard.getWhiteKings() : bitBoard.getBlackKings();
+        opponentMen = white ? bitBoard.getBlackMen() : bitBoard.getWhiteMen();
+        opponentKings = white ? bitBoard.getBlackKings() : bitBoard.getWhiteKings();
+        manDirections = Topology.getManDirections(bitBoard.getSideToMove());
+        promotionMask = Topology.getPromotionMask(bitBoard.getSideToMove());
+        bestPrecedence = 0;
+
+        int occupiedByAll = bitBoard.getOccupied();
+        for (int pieces = ownMen | ownKings; pieces != 0; pieces &= pieces - 1) {
+            int square = Integer.numberOfTrailingZeros(pieces);
+            boolean king = (ownKings & (1 << square)) != 0;
+            occupied = occupiedByAll & ~(1 << square);
+            captured = 0;
+            capturedKings = 0;
+            origin = square;
+            searchCaptures(square, 0, -1, king);
+        }
+        if (moves.size() > 0) {
+            return moves.size();
+        }
+
+        for (int pieces = ownMen | ownKings; pieces != 0; pieces &= pieces - 1) {
+            int square = Integer.numberOfTrailingZeros(pieces);
+            boolean king = (ownKings & (1 << square)) != 0;
+            for (int direction : king ? Topology.KING_DIRECTIONS : manDirections) {
+                int target = Topology.getNeighbor(square, direction);
+                if (target >= 0 && (occupiedByAll & (1 << target)) == 0) {
+                    boolean promotion = !king && (promotionMask & (1 << target)) != 0;
+                    moves.add(MoveEncoding.encode(square, direction, 0, promotion), target, 0);
+                }
+            }
+        }
+        return moves.size();
+    }
+
+    /**
+     * Packs the Italian precedence rules of a capture sequence into one key, so that the sequence to play is the one
+     * with the highest key: most pieces captured, then capturing with a king, then most kings captured, then the
+     * earliest king captured.
+     */
+    static long precedence(int capturedCount, boolean capturingWithKing, int capturedKingCount, int firstKingStep) {
+        long earliestKing = firstKingStep < 0 ? 0 : MoveEncoding.MAX_STEPS - firstKingStep;
+        return (long) capturedCount << 16 | (capturingWithKing ? 1L : 0L) << 15 | (long) capturedKingCount << 8
+                | earliestKing;
+    }
+
+    private void searchCaptures(int square, int depth, int firstKingStep, boolean king) {
+        boolean extended = false;
+        for (int direction : king ? Topology.KING_DIRECTIONS : manDirections) {
+            int over = Topology.getNeighbor(square, direction);
+            int landing = Topology.getJump(square, direction);
+            if (landing < 0) {
+                continue;
+            }
+            int overBit = 1 << over;
+            if (((opponentMen | opponentKings) & overBit) == 0 || (captured & overBit) != 0
+                    || (occupied & (1 << landing)) != 0) {
+                continue;
+            }
+            boolean eatingKing = (opponentKings & overBit) != 0;
+            if (eatingKing && !king) {
+                continue;
+            }
+            extended = true;
+            int nextFirstKingStep = eatingKing && firstKingStep < 0 ? depth : firstKingStep;
+            captured |= overBit;
+            if (eatingKing) {
+                capturedKings |= overBit;
+            }
+            directions = directions & ~(3L << 2 * depth) | (long) direction << 2 * depth;
+            if (!king && (promotionMask & (1 << landing)) != 0) {
+                // a man that gets promoted ends its move
+                record(landing, depth + 1, nextFirstKingStep, king, true);
+            } else {
+                searchCaptures(landing, depth + 1, nextFirstKingStep, king);
+            }
+            captured &= ~overBit;
+            capturedKings &= ~overBit;
+        }
+        if (!extended && depth > 0) {
+            record(square, depth, firstKingStep, king, false);
+        }
+    }
+
+    private void record(int destination, int captureCount, int firstKingStep, boolean king, boolean promotion) {
+        long precedence = precedence(captureCount, king, Integer.bitCount(capturedKings), firstKingStep);
+        if (precedence < bestPrecedence) {
+            return;
+        }
+        if (precedence > bestPrecedence) {
+            moves.clear();
+            bestPrecedence = precedence;
+        } else if (moves.contains(origin, destination, captured)) {
+            return;
+        }
+        long stepDirections = directions & (1L << 2 * captureCount) - 1;
+        moves.add(MoveEncoding.encode(origin, stepDirections, captured, promotion), destination, capturedKings);
+    }
+
+}
@@ -0,0 +1,129 @@
+package it.units.italiandraughts.logic;
+
+import java.util.List;
+
+/**
+ * Preallocated buffer the {@link MoveGenerator} writes into, holding each move as a {@link MoveEncoding} long; it is
+ * meant to be reused across calls, typically one per search ply.
+ */
+public class MoveList {
+
+    public static final int MAX_MOVES = 128;
+    public static final int MAX_STEPS = MoveEncoding.MAX_STEPS;
+
+    private final long[] moves = new long[MAX_MOVES];
+    private final int[] to = new int[MAX_MOVES];
+    private final int[] capturedKings = new int[MAX_MOVES];
+    private int size;
+
+    void clear() {
+        size = 0;
+    }
+
+    void add(long move, int to, int capturedKings) {
+        int index = size++;
+        this.moves[index] = move;
+        this.to[index] = to;
+        this.capturedKings[index] = capturedKings;
+    }
+
+    boolean contains(int from, int to, int captured) {
+        for (int i = 0; i < size; i++) {
+            if (this.to[i] == to && getFrom(i) == from && getCaptured(i) == captured) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public long getMove(int index) {
+        return moves[index];
+    }
+
+    public int getFrom(int index) {
+        return MoveEncoding.getFrom(moves[index]);
+    }
+
+    public int getTo(int index) {
+        return to[index];
+    }
+
+    public int getCaptured(int index) {
+        return MoveEncoding.getCaptured(moves[index]);
+    }
+
+    public int getCapturedKings(int index) {
+        return capturedKings[index];
+    }
+
+    public boolean isPromotion(int index) {
+        return MoveEncoding.isPromotion(moves[index]);
+    }
+
+    public boolean isCapture(int index) {
+        return MoveEncoding.isCapture(moves[index]);
+    }
+
+    public int getStepCount(int index) {
+        return MoveEncoding.getStepCount(moves[index]);
+    }
+
+    public int getStep(int index, int step) {
+        return MoveEncoding.getStep(moves[index], step);
+    }
+
+    /**
+     * @see MoveEncoding#getKey(long)
+     */
+    public int getKey(int index) {
+        return MoveEncoding.getKey(moves[index]);
+    }
+
+    public int indexOf(int key) {
+        for (int i = 0; i < size; i++) {
+            if (getKey(i) == key) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    public void swap(int first, int second) {
+        long move = moves[first];
+        moves[first] = moves[second];
+        moves[second] = move;
+        swap(to, first, second);
+        swap(capturedKings, first, second);
+    }
+
+    private static void swap(int[] array, int first, int second) {
+        int value = array[first];
+        array[first] = array[second];
+        array[second] = value;
+    }
+
+    public String toNotation(int index) {
+        return MoveEncoding.toNotation(moves[index]);
+    }
+
+    public int[] getPath(int index) {
+        return MoveEncoding.getPath(moves[index]);
+    }
+
+    public List<BlackTile> getSteps(int index, Board board) {
+        return MoveEncoding.getSteps(moves[index], board);
+    }
+
+    public void makeMove(BitBoard bitBoard, int index) {
+        bitBoard.makeMove(getFrom(index), to[index], getCaptured(index), isPromotion(index));
+    }
+
+    public void undoMove(BitBoard bitBoard, int index) {
+        bitBoard.undoMove(getFrom(index), to[index], getCaptured(index), capturedKings[index], isPromotion(index));
+    }
+
+}
@@ -1,8 +1,6 @@
 package it.units.italiandraughts.logic;
 
-import it.units.italiandraughts.ui.PieceColor;
-
-import java.util.Map;
+import java.util.Arrays;
 import java.util.Objects;
 import java.util.Optional;
 import java.util.stream.Stream;
@@ -29,10 +27,13 @@ public abstract class Piece {
             return Optional.empty();
         } else {
             // move and eat a piece
-            BlackTile overTile = blackTile.getNeighbors().values().stream()
-                    .filter(neighbor -> neighbor.getNeighbors().values().stream()
-                            .anyMatch(blackTile -> blackTile.equals(landingTile)))
-                    .findAny().orElseThrow();
+            BlackTile overTile = null;
+            for (int direction = 0; direction < Topology.DIRECTIONS && overTile == null; direction++) {
+                if (Topology.getJump(blackTile.getSquareIndex(), direction) == landingTile.getSquareIndex()) {
+                    overTile = blackTile.getNeighbor(direction);
+                }
+            }
+            Objects.requireNonNull(overTile, "The landing tile is not reachable");
 
             Optional<EatenPiece> eatenPieceOptional = Optional.of(new EatenPiece(overTile));
             eatNeighbor(overTile.getPiece());
@@ -52,14 +53,14 @@ public abstract class Piece {
         return pieceType;
     }
 
+    private int[] getMoveDirections() {
+        return isKing() ? Topology.KING_DIRECTIONS : Topology.getManDirections(getPieceColor());
+    }
+
     public Stream<BlackTile> getReachableNeighboringBlackTiles() {
-        if (pieceType.equals(PieceType.KING)) {
-            return getBlackTile().getNeighbors().values().stream();
-        } else {
-            return getBlackTile().getNeighbors().entrySet().stream()
-                    .filter(entry -> entry.getKey().startsWith(getPieceColor().equals(PieceColor.WHITE) ? "top" : "bottom"))
-                    .map(Map.Entry::getValue);
-        }
+        return Arrays.stream(getMoveDirections())
+                .mapToObj(direction -> blackTile.getNeighbor(direction))
+                .filter(Objects::nonNull);
     }
 
     public boolean canEatNeighbor(Piece otherPiece) {
@@ -81,28 +82,22 @@ public abstract class Piece {
 
     public void eatNeighbor(Piece otherPiece) {
         if (canEatNeighbor(otherPiece)) {
-            String eatingDirection = blackTile.getNeighborKey(otherPiece.blackTile);
-            Optional<BlackTile> landingTile = Optional.ofNullable(otherPiece.getBlackTile().getNeighbors().get(eatingDirection));
+            BlackTile landingTile = getPositionAfterEating(otherPiece);
             BlackTile sourceBlackTile = this.getBlackTile();
             BlackTile overBlackTile = otherPiece.getBlackTile();
 
-            if (landingTile.isPresent()) {
-                sourceBlackTile.removePiece();
-                overBlackTile.removePiece();
-                landingTile.get().placePiece(this);
-            }
+            sourceBlackTile.removePiece();
+            overBlackTile.removePiece();
+            landingTile.placePiece(this);
         }
     }
 
     BlackTile getPositionAfterEating(Piece otherPiece) {
-        Optional<String> optionalDirection = this.getBlackTile().getNeighbors().entrySet().stream()
-                .filter(entry -> entry.getValue().equals(otherPiece.getBlackTile()))
-                .map(Map.Entry::getKey).findAny();
-        if (optionalDirection.isPresent()) {
-            String eatingDirection = optionalDirection.get();
-            return otherPiece.getBlackTile().getNeighbors().get(eatingDirection);
+        int eatingDirection = blackTile.getNeighborDirection(otherPiece.getBlackTile());
+        if (eatingDirection < 0) {
+            return null;
         }
-        return null;
+        return otherPiece.getBlackTile().getNeighbor(eatingDirection);
     }
 
     public BlackTile getBlackTile() {
@@ -140,8 +135,14 @@ public abstract class Piece {
     }
 
     public void updateMovable() {
-        this.movable = getReachableNeighboringBlackTiles()
-                .anyMatch(tile -> tile.isEmpty() || canEatNeighbor(tile.getPiece()));
+        movable = false;
+        for (int direction : getMoveDirections()) {
+            BlackTile neighbor = blackTile.getNeighbor(direction);
+            if (neighbor != null && (neighbor.isEmpty() || canEatNeighbor(neighbor.getPiece()))) {
+                movable = true;
+                return;
+            }
+        }
     }
 
     @Override
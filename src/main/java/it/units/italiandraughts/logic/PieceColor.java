@@ -0,0 +1,12 @@
+package it.units.italiandraughts.logic;
+
+public enum PieceColor {
+    WHITE, BLACK;
+
+    @Override
+    public String toString() {
+        if (this.equals(WHITE)) {
+            return "WHITE";
+        } else return "BLACK";
+    }
+}
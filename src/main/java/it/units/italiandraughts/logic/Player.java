@@ -1,7 +1,5 @@
 package it.units.italiandraughts.logic;
 
-import it.units.italiandraughts.ui.PieceColor;
-
 import java.util.Objects;
 
 public class Player {
@@ -0,0 +1,58 @@
+package it.units.italiandraughts.logic;
+
+/**
+ * Immutable snapshot of a position, laid out as in {@link BitBoard}. Unlike {@link Board} it holds no references to
+ * tiles, pieces or UI nodes, so it can be shared between threads, used as a map key and persisted.
+ */
+public record Position(int whiteMen, int whiteKings, int blackMen, int blackKings, boolean whiteToMove) {
+
+    public Position {
+        if (((whiteMen | whiteKings) & (blackMen | blackKings)) != 0 || (whiteMen & whiteKings) != 0
+                || (blackMen & blackKings) != 0) {
+            throw new IllegalArgumentException("A square cannot hold more than one piece");
+        }
+    }
+
+    public static Position of(BitBoard bitBoard) {
+        return new Position(bitBoard.getWhiteMen(), bitBoard.getWhiteKings(), bitBoard.getBlackMen(),
+                bitBoard.getBlackKings(), bitBoard.isWhiteToMove());
+    }
+
+    public static Position of(Board board, PieceColor sideToMove) {
+        return of(BitBoard.fromBoard(board, sideToMove));
+    }
+
+    public static Position initial() {
+        return of(BitBoard.initial());
+    }
+
+    public static Position fromFen(String fen) {
+        return of(BitBoard.fromFen(fen));
+    }
+
+    public BitBoard toBitBoard() {
+        return new BitBoard(whiteMen, whiteKings, blackMen, blackKings, whiteToMove);
+    }
+
+    public Board toBoard() {
+        return toBitBoard().toBoard();
+    }
+
+    public String toFen() {
+        return toBitBoard().toFen();
+    }
+
+    public PieceColor getSideToMove() {
+        return whiteToMove ? PieceColor.WHITE : PieceColor.BLACK;
+    }
+
+    public long getZobristKey() {
+        return Zobrist.hash(this);
+    }
+
+    @Override
+    public String toString() {
+        return toFen();
+    }
+
+}
@@ -1,7 +1,5 @@
 package it.units.italiandraughts.logic;
 
-import javafx.stage.Screen;
-
 import java.util.Arrays;
 import java.util.stream.Stream;
 
@@ -11,12 +9,4 @@ public class StaticUtil {
         return Arrays.stream(matrix).flatMap(Arrays::stream);
     }
 
-    public static double getScreenWidth() {
-        return Screen.getPrimary().getBounds().getWidth();
-    }
-
-    public static double getScreenHeight() {
-        return Screen.getPrimary().getBounds().getHeight();
-    }
-
 }
@@ -1,8 +1,5 @@
 package it.units.italiandraughts.logic;
 
-import it.units.italiandraughts.ui.Square;
-
-import java.util.Objects;
 import java.util.function.BiPredicate;
 import java.util.function.Predicate;
 
@@ -10,7 +7,6 @@ public class Tile {
 
     protected final int x;
     protected final int y;
-    private Square square;
 
     private static final Predicate<Integer> isValidCoordinatePredicate =
             coordinate -> (coordinate >= 0 && coordinate < Board.SIZE);
@@ -32,14 +28,6 @@ public class Tile {
         this.y = y;
     }
 
-    public void setSquare(Square square) {
-        this.square = square;
-    }
-
-    public Square getSquare() {
-        return square;
-    }
-
     public int getX() {
         return x;
     }
@@ -58,15 +46,13 @@ public class Tile {
         if (!(o instanceof Tile tile)) return false;
 
         if (x != tile.x) return false;
-        if (y != tile.y) return false;
-        return Objects.equals(square, tile.square);
+        return y == tile.y;
     }
 
     @Override
     public int hashCode() {
         int result = x;
         result = 31 * result + y;
-        result = 31 * result + (square != null ? square.hashCode() : 0);
         return result;
     }
 
@@ -0,0 +1,79 @@
+package it.units.italiandraughts.logic;
+
+/**
+ * Geometry of the draughts board, computed once: the neighbour and jump landing square of every dark square in each
+ * direction, the directions men move in and the promotion squares of each colour. Squares are numbered as in
+ * {@link BitBoard}, -1 stands for off the board.
+ */
+public final class Topology {
+
+    public static final int TOP_LEFT = 0;
+    public static final int TOP_RIGHT = 1;
+    public static final int BOTTOM_LEFT = 2;
+    public static final int BOTTOM_RIGHT = 3;
+    public static final int DIRECTIONS = 4;
+
+    // shared with the move generator, never modified
+    static final int[] WHITE_DIRECTIONS = {TOP_LEFT, TOP_RIGHT};
+    static final int[] BLACK_DIRECTIONS = {BOTTOM_LEFT, BOTTOM_RIGHT};
+    static final int[] KING_DIRECTIONS = {TOP_LEFT, TOP_RIGHT, BOTTOM_LEFT, BOTTOM_RIGHT};
+
+    private static final String[] DIRECTION_NAMES = {"topLeft", "topRight", "bottomLeft", "bottomRight"};
+    private static final int[] DX = {-1, 1, -1, 1};
+    private static final int[] DY = {-1, -1, 1, 1};
+    private static final int WHITE_PROMOTION_MASK = 0x0000000f;
+    private static final int BLACK_PROMOTION_MASK = 0xf0000000;
+    private static final int[] NEIGHBOR = new int[BitBoard.SQUARES * DIRECTIONS];
+    private static final int[] JUMP = new int[BitBoard.SQUARES * DIRECTIONS];
+
+    static {
+        for (int square = 0; square < BitBoard.SQUARES; square++) {
+            for (int direction = 0; direction < DIRECTIONS; direction++) {
+                NEIGHBOR[square * DIRECTIONS + direction] = squareAt(square, direction, 1);
+                JUMP[square * DIRECTIONS + direction] = squareAt(square, direction, 2);
+            }
+        }
+    }
+
+    private Topology() {
+    }
+
+    private static int squareAt(int square, int direction, int distance) {
+        int x = BitBoard.getX(square) + DX[direction] * distance;
+        int y = BitBoard.getY(square) + DY[direction] * distance;
+        return Tile.areValidCoordinatesBiPredicate.test(x, y) ? BitBoard.squareIndex(x, y) : -1;
+    }
+
+    public static int getNeighbor(int square, int direction) {
+        return NEIGHBOR[square * DIRECTIONS + direction];
+    }
+
+    public static int getJump(int square, int direction) {
+        return JUMP[square * DIRECTIONS + direction];
+    }
+
+    /**
+     * The direction leading from a square to an adjacent one, or -1 if they are not adjacent.
+     */
+    public static int getDirection(int from, int to) {
+        for (int direction = 0; direction < DIRECTIONS; direction++) {
+            if (NEIGHBOR[from * DIRECTIONS + direction] == to) {
+                return direction;
+            }
+        }
+        return -1;
+    }
+
+    public static String getDirectionName(int direction) {
+        return DIRECTION_NAMES[direction];
+    }
+
+    static int[] getManDirections(PieceColor color) {
+        return color == PieceColor.WHITE ? WHITE_DIRECTIONS : BLACK_DIRECTIONS;
+    }
+
+    public static int getPromotionMask(PieceColor color) {
+        return color == PieceColor.WHITE ? WHITE_PROMOTION_MASK : BLACK_PROMOTION_MASK;
+    }
+
+}
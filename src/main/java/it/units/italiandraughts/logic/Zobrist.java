@@ -0,0 +1,79 @@
+package it.units.italiandraughts.logic;
+
+import java.util.SplittableRandom;
+
+/**
+ * Zobrist keys for positions. The seed is fixed, so keys are stable across runs and can be persisted.
+ */
+public class Zobrist {
+
+    private static final long SEED = 0x1ad2a9b5c3e4f607L;
+    private static final int PIECE_KINDS = 4;
+    private static final long[] PIECE_KEYS = new long[BitBoard.SQUARES * PIECE_KINDS];
+    private static final long SIDE_KEY;
+
+    static {
+        SplittableRandom random = new SplittableRandom(SEED);
+        for (int i = 0; i < PIECE_KEYS.length; i++) {
+            PIECE_KEYS[i] = random.nextLong();
+        }
+        SIDE_KEY = random.nextLong();
+    }
+
+    private static int pieceKind(PieceColor pieceColor, PieceType pieceType) {
+        return (PieceColor.WHITE.equals(pieceColor) ? 0 : 2) + (PieceType.MAN.equals(pieceType) ? 0 : 1);
+    }
+
+    public static long getPieceKey(int square, PieceColor pieceColor, PieceType pieceType) {
+        return PIECE_KEYS[square * PIECE_KINDS + pieceKind(pieceColor, pieceType)];
+    }
+
+    public static long getPieceKey(BlackTile blackTile, Piece piece) {
+        return getPieceKey(BitBoard.squareIndex(blackTile.getX(), blackTile.getY()), piece.getPieceColor(),
+                piece.getPieceType());
+    }
+
+    public static long getSideKey() {
+        return SIDE_KEY;
+    }
+
+    static long getMaskKey(int mask, PieceColor pieceColor, PieceType pieceType) {
+        int kind = pieceKind(pieceColor, pieceType);
+        long key = 0;
+        for (; mask != 0; mask &= mask - 1) {
+            key ^= PIECE_KEYS[Integer.numberOfTrailingZeros(mask) * PIECE_KINDS + kind];
+        }
+        return key;
+    }
+
+    public static long hash(BitBoard bitBoard) {
+        return hash(bitBoard.getWhiteMen(), bitBoard.getWhiteKings(), bitBoard.getBlackMen(),
+                bitBoard.getBlackKings(), bitBoard.isWhiteToMove());
+    }
+
+    public static long hash(Position position) {
+        return hash(position.whiteMen(), position.whiteKings(), position.blackMen(), position.blackKings(),
+                position.whiteToMove());
+    }
+
+    private static long hash(int whiteMen, int whiteKings, int blackMen, int blackKings, boolean whiteToMove) {
+        long key = getMaskKey(whiteMen, PieceColor.WHITE, PieceType.MAN)
+                ^ getMaskKey(whiteKings, PieceColor.WHITE, PieceType.KING)
+                ^ getMaskKey(blackMen, PieceColor.BLACK, PieceType.MAN)
+                ^ getMaskKey(blackKings, PieceColor.BLACK, PieceType.KING);
+        return whiteToMove ? key : key ^ SIDE_KEY;
+    }
+
+    public static long hash(Board board) {
+        long key = 0;
+        for (Tile[] row : board.getTiles()) {
+            for (Tile tile : row) {
+                if (!tile.isEmpty()) {
+                    key ^= getPieceKey(BlackTile.asBlackTile(tile), BlackTile.asBlackTile(tile).getPiece());
+                }
+            }
+        }
+        return key;
+    }
+
+}
@@ -0,0 +1,79 @@
+package it.units.italiandraughts.pdn;
+
+import it.units.italiandraughts.logic.BitBoard;
+import it.units.italiandraughts.logic.MoveGenerator;
+import it.units.italiandraughts.logic.MoveList;
+
+/**
+ * Matches moves written with squares numbered 1 to 32 against the legal moves of a position. A capture may list
+ * every landing square ("21x14x5") or just the origin and destination ("21x5") when that is not ambiguous.
+ */
+class MoveNotation {
+
+    private final MoveGenerator moveGenerator = new MoveGenerator();
+    private final MoveList legalMoves = new MoveList();
+
+    /**
+     * Returns the matching legal move packed by {@link it.units.italiandraughts.logic.MoveEncoding}, throwing
+     * {@link IllegalArgumentException} if the notation is malformed, illegal or ambiguous.
+     */
+    long parse(String notation, BitBoard position) {
+        String[] fields = notation.split("[-x:]");
+        int[] squares = new int[fields.length];
+        try {
+            for (int i = 0; i < fields.length; i++) {
+                squares[i] = Integer.parseInt(fields[i]) - 1;
+            }
+        } catch (NumberFormatException e) {
+            throw new IllegalArgumentException("Invalid move " + notation, e);
+        }
+        if (squares.length < 2) {
+            throw new IllegalArgumentException("Invalid move " + notation);
+        }
+        return find(squares, position);
+    }
+
+    long find(int[] squares, BitBoard position) {
+        int count = moveGenerator.generate(position, legalMoves);
+        int found = -1;
+        for (int i = 0; i < count; i++) {
+            if (matches(i, squares)) {
+                if (found >= 0) {
+                    throw new IllegalArgumentException("Ambiguous move " + toString(squares));
+                }
+                found = i;
+            }
+        }
+        if (found < 0) {
+            throw new IllegalArgumentException("Illegal move " + toString(squares) + " in " + position.toFen());
+        }
+        return legalMoves.getMove(found);
+    }
+
+    private boolean matches(int index, int[] squares) {
+        if (legalMoves.getFrom(index) != squares[0] || legalMoves.getTo(index) != squares[squares.length - 1]) {
+            return false;
+        }
+        if (squares.length == 2) {
+            return true;
+        }
+        if (legalMoves.getStepCount(index) != squares.length) {
+            return false;
+        }
+        for (int step = 1; step < squares.length - 1; step++) {
+            if (legalMoves.getStep(index, step) != squares[step]) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static String toString(int[] squares) {
+        StringBuilder result = new StringBuilder();
+        for (int square : squares) {
+            result.append(result.length() == 0 ? "" : "-").append(square + 1);
+        }
+        return result.toString();
+    }
+
+}
@@ -0,0 +1,88 @@
+package it.units.italiandraughts.pdn;
+
+import it.units.italiandraughts.logic.BitBoard;
+import it.units.italiandraughts.logic.BlackTile;
+import it.units.italiandraughts.logic.Game;
+import it.units.italiandraughts.logic.GameHistory;
+import it.units.italiandraughts.logic.Move;
+import it.units.italiandraughts.logic.MoveEncoding;
+import it.units.italiandraughts.logic.Position;
+
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * A game record: its PDN tags, the starting position and the moves played, packed by {@link MoveEncoding}.
+ */
+public class PdnGame {
+
+    public static final String UNKNOWN_RESULT = "*";
+
+    private final Map<String, String> tags;
+    private final Position startPosition;
+    private final long[] moves;
+    private final String result;
+
+    public PdnGame(Map<String, String> tags, Position startPosition, long[] moves, String result) {
+        this.tags = Collections.unmodifiableMap(new LinkedHashMap<>(tags));
+        this.startPosition = startPosition;
+        this.moves = moves.clone();
+        this.result = result;
+    }
+
+    /**
+     * Records the moves made so far in a game, validating them against its legal moves.
+     */
+    public static PdnGame of(Game game, Map<String, String> tags) {
+        Position startPosition = game.getPositionAt(0);
+        BitBoard bitBoard = startPosition.toBitBoard();
+        MoveNotation moveNotation = new MoveNotation();
+        List<Move> gameMoves = game.getMoves();
+        long[] moves = new long[gameMoves.size()];
+        for (int i = 0; i < moves.length; i++) {
+            List<BlackTile> steps = gameMoves.get(i).getSteps();
+            moves[i] = moveNotation.find(steps.stream().mapToInt(BlackTile::getSquareIndex).toArray(), bitBoard);
+            bitBoard.makeMove(moves[i]);
+        }
+        return new PdnGame(tags, startPosition, moves, tags.getOrDefault("Result", UNKNOWN_RESULT));
+    }
+
+    public Map<String, String> getTags() {
+        return tags;
+    }
+
+    public String getTag(String name) {
+        return tags.get(name);
+    }
+
+    public Position getStartPosition() {
+        return startPosition;
+    }
+
+    public long[] getMoves() {
+        return moves.clone();
+    }
+
+    public int getMoveCount() {
+        return moves.length;
+    }
+
+    public long getMove(int ply) {
+        return moves[ply];
+    }
+
+    public String getResult() {
+        return result;
+    }
+
+    public GameHistory toHistory() {
+        GameHistory history = new GameHistory(startPosition);
+        for (long move : moves) {
+            history.play(move);
+        }
+        return history;
+    }
+
+}
@@ -0,0 +1,292 @@
+package it.units.italiandraughts.pdn;
+
+import it.units.italiandraughts.exception.InvalidPdnException;
+import it.units.italiandraughts.logic.BitBoard;
+
+import java.io.BufferedReader;
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.PushbackReader;
+import java.io.Reader;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+/**
+ * Reads Portable Draughts Notation one game at a time, so that memory use depends on the longest game rather than
+ * on the size of the input. Moves are checked against the Italian rules, either as they are read or later through
+ * {@link RawPdnGame#validate()}; comments, variations and annotations are skipped. Squares are numbered 1 to 32
+ * from the top left corner, as in {@link BitBoard#toFen()}.
+ */
+public class PdnReader implements Closeable {
+
+    private static final Set<String> RESULTS = Set.of("1-0", "0-1", "1/2-1/2", "2-0", "0-2", "1-1", "*");
+    private static final String DELIMITERS = "{}();[";
+    private static final int MAX_TOKEN_LENGTH = 4096;
+
+    private final PushbackReader reader;
+    private int line = 1;
+    private int gameNumber;
+    private boolean readingTags;
+
+    public PdnReader(Reader reader) {
+        this.reader = new PushbackReader(new BufferedReader(reader), 1);
+    }
+
+    public PdnReader(InputStream inputStream) {
+        this(new InputStreamReader(inputStream, StandardCharsets.UTF_8));
+    }
+
+    public static PdnReader open(Path path) throws IOException {
+        return new PdnReader(Files.newBufferedReader(path, StandardCharsets.UTF_8));
+    }
+
+    /**
+     * Reads and validates the next game, or returns null at the end of the input.
+     */
+    public PdnGame next() throws IOException {
+        RawPdnGame game = nextRaw();
+        return game == null ? null : game.validate();
+    }
+
+    /**
+     * Reads the next game without checking its moves, or returns null at the end of the input.
+     */
+    public RawPdnGame nextRaw() throws IOException {
+        int c = skipWhitespace();
+        if (c < 0) {
+            return null;
+        }
+        gameNumber++;
+        int startLine = line;
+        Map<String, String> tags = new LinkedHashMap<>();
+        readingTags = true;
+        while (c == '[') {
+            readTag(tags);
+            c = skipWhitespace();
+        }
+        readingTags = false;
+        unread(c);
+
+        List<String> moves = new ArrayList<>();
+        int[] moveLines = new int[64];
+        String result = null;
+        while (result == null) {
+            c = skipWhitespace();
+            if (c < 0) {
+                break;
+            }
+            if (c == '[') {
+                // the next game starts without this one stating its result
+                unread(c);
+                break;
+            }
+            if (c == '{') {
+                skipUntil('}');
+            } else if (c == ';') {
+                skipUntil('\n');
+            } else if (c == '(') {
+                skipVariation();
+            } else {
+                String token = readToken(c);
+                if (RESULTS.contains(token)) {
+                    result = token;
+                    continue;
+                }
+                String notation = token.replaceFirst("^\\d+\\.+", "").replaceFirst("[!?]+$", "");
+                if (notation.isEmpty() || notation.startsWith("$")) {
+                    continue;
+                }
+                if (moves.size() == moveLines.length) {
+                    moveLines = Arrays.copyOf(moveLines, moveLines.length * 2);
+                }
+                moveLines[moves.size()] = line;
+                moves.add(notation);
+            }
+        }
+        if (result == null) {
+            result = tags.getOrDefault("Result", PdnGame.UNKNOWN_RESULT);
+        }
+        return new RawPdnGame(gameNumber, startLine, tags, moves, Arrays.copyOf(moveLines, moves.size()), result);
+    }
+
+    /**
+     * Skips the rest of a game that could not be read, up to the tags of the next game at the start of a line, so
+     * that reading can go on after an {@link InvalidPdnException}.
+     */
+    public void skipToNextGame() throws IOException {
+        boolean movetext = !readingTags;
+        readingTags = false;
+        int c = read();
+        if (c == '[' && movetext) {
+            unread(c);
+            return;
+        }
+        while (c >= 0) {
+            if (c == '\n') {
+                do {
+                    c = read();
+                } while (c == ' ' || c == '\t' || c == '\r');
+                if (c == '[' && movetext) {
+                    unread(c);
+                    return;
+                }
+                movetext |= c >= 0 && c != '[' && c != '\n';
+            } else {
+                c = read();
+            }
+        }
+    }
+
+    /**
+     * The number of the last game read, counting from 1, including the games that could not be read.
+     */
+    public int getGameNumber() {
+        return gameNumber;
+    }
+
+    /**
+     * The remaining games as a lazy stream; I/O errors are rethrown as {@link UncheckedIOException}.
+     */
+    public Stream<PdnGame> games() {
+        return StreamSupport.stream(new Spliterators.AbstractSpliterator<>(Long.MAX_VALUE,
+                Spliterator.ORDERED | Spliterator.NONNULL) {
+            @Override
+            public boolean tryAdvance(Consumer<? super PdnGame> action) {
+                try {
+                    PdnGame game = next();
+                    if (game == null) {
+                        return false;
+                    }
+                    action.accept(game);
+                    return true;
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+            }
+        }, false);
+    }
+
+    private void readTag(Map<String, String> tags) throws IOException {
+        StringBuilder name = new StringBuilder();
+        int c = skipWhitespace();
+        while (c >= 0 && !Character.isWhitespace(c) && c != '"' && c != ']') {
+            append(name, c);
+            c = read();
+        }
+        if (c != '"') {
+            c = skipWhitespace();
+        }
+        if (c != '"') {
+            throw error("Expected a quoted value for tag " + name, null);
+        }
+        StringBuilder value = new StringBuilder();
+        for (c = read(); c != '"'; c = read()) {
+            if (c < 0) {
+                throw error("Unterminated value for tag " + name, null);
+            }
+            append(value, c == '\\' ? read() : c);
+        }
+        skipUntil(']');
+        tags.put(name.toString(), value.toString());
+    }
+
+    private String readToken(int first) throws IOException {
+        StringBuilder token = new StringBuilder();
+        int c = first;
+        while (c >= 0 && !Character.isWhitespace(c) && DELIMITERS.indexOf(c) < 0) {
+            append(token, c);
+            c = read();
+        }
+        unread(c);
+        return token.toString();
+    }
+
+    private void skipVariation() throws IOException {
+        int depth = 1;
+        while (depth > 0) {
+            int c = read();
+            switch (c) {
+                case -1 -> throw error("Unterminated variation", null);
+                case '[' -> {
+                    // the tags of the next game
+                    unread(c);
+                    throw error("Unterminated variation", null);
+                }
+                case '(' -> depth++;
+                case ')' -> depth--;
+                case '{' -> skipUntil('}');
+                case ';' -> skipUntil('\n');
+                default -> {
+                }
+            }
+        }
+    }
+
+    private void skipUntil(char end) throws IOException {
+        int c;
+        do {
+            c = read();
+        } while (c >= 0 && c != end);
+    }
+
+    private int skipWhitespace() throws IOException {
+        int c;
+        do {
+            c = read();
+        } while (c >= 0 && Character.isWhitespace(c));
+        return c;
+    }
+
+    private void append(StringBuilder builder, int c) {
+        if (c < 0) {
+            throw error("Unexpected end of input", null);
+        }
+        if (builder.length() == MAX_TOKEN_LENGTH) {
+            throw error("Token longer than " + MAX_TOKEN_LENGTH + " characters", null);
+        }
+        builder.append((char) c);
+    }
+
+    private int read() throws IOException {
+        int c = reader.read();
+        if (c == '\n') {
+            line++;
+        }
+        return c;
+    }
+
+    private void unread(int c) throws IOException {
+        if (c < 0) {
+            return;
+        }
+        if (c == '\n') {
+            line--;
+        }
+        reader.unread(c);
+    }
+
+    private InvalidPdnException error(String message, Throwable cause) {
+        return new InvalidPdnException("Game " + gameNumber + ", line " + line + ": " + message, cause);
+    }
+
+    @Override
+    public void close() throws IOException {
+        reader.close();
+    }
+
+}
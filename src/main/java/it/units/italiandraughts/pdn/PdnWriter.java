@@ -0,0 +1,104 @@
+package it.units.italiandraughts.pdn;
+
+import it.units.italiandraughts.logic.Game;
+import it.units.italiandraughts.logic.MoveEncoding;
+import it.units.italiandraughts.logic.Position;
+
+import java.io.BufferedWriter;
+import java.io.Closeable;
+import java.io.Flushable;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Writes games in Portable Draughts Notation, in the format {@link PdnReader} reads back.
+ */
+public class PdnWriter implements Closeable, Flushable {
+
+    private static final String ITALIAN_GAME_TYPE = "22";
+    private static final int LINE_WIDTH = 80;
+
+    private final Writer writer;
+
+    public PdnWriter(Writer writer) {
+        this.writer = writer instanceof BufferedWriter ? writer : new BufferedWriter(writer);
+    }
+
+    public PdnWriter(OutputStream outputStream) {
+        this(new OutputStreamWriter(outputStream, StandardCharsets.UTF_8));
+    }
+
+    public static PdnWriter create(Path path) throws IOException {
+        return new PdnWriter(Files.newBufferedWriter(path, StandardCharsets.UTF_8));
+    }
+
+    public void write(Game game) throws IOException {
+        write(PdnGame.of(game, Map.of()));
+    }
+
+    public void write(PdnGame game) throws IOException {
+        Map<String, String> tags = new LinkedHashMap<>();
+        tags.put("GameType", ITALIAN_GAME_TYPE);
+        tags.putAll(game.getTags());
+        tags.put("Result", game.getResult());
+        Position startPosition = game.getStartPosition();
+        if (!startPosition.equals(Position.initial())) {
+            tags.put("FEN", startPosition.toFen());
+        }
+        for (Map.Entry<String, String> tag : tags.entrySet()) {
+            String value = tag.getValue().replace("\\", "\\\\").replace("\"", "\\\"");
+            writer.write("[" + tag.getKey() + " \"" + value + "\"]\n");
+        }
+        writer.write('\n');
+
+        StringBuilder line = new StringBuilder();
+        boolean whiteToMove = startPosition.whiteToMove();
+        int moveNumber = 1;
+        if (!whiteToMove) {
+            appendToken(line, moveNumber + "...");
+        }
+        for (long move : game.getMoves()) {
+            if (whiteToMove) {
+                appendToken(line, moveNumber + ".");
+            }
+            appendToken(line, MoveEncoding.toNotation(move));
+            if (!whiteToMove) {
+                moveNumber++;
+            }
+            whiteToMove = !whiteToMove;
+        }
+        appendToken(line, game.getResult());
+        writer.write(line.toString());
+        writer.write("\n\n");
+    }
+
+    private void appendToken(StringBuilder line, String token) throws IOException {
+        if (line.length() > 0 && line.length() + 1 + token.length() > LINE_WIDTH) {
+            writer.write(line.toString());
+            writer.write('\n');
+            line.setLength(0);
+        }
+        if (line.length() > 0) {
+            line.append(' ');
+        }
+        line.append(token);
+    }
+
+    @Override
+    public void flush() throws IOException {
+        writer.flush();
+    }
+
+    @Override
+    public void close() throws IOException {
+        writer.close();
+    }
+
+}
@@ -0,0 +1,82 @@
+package it.units.italiandraughts.pdn;
+
+import it.units.italiandraughts.exception.InvalidPdnException;
+import it.units.italiandraughts.logic.BitBoard;
+import it.units.italiandraughts.logic.Position;
+
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * A game as tokenized by {@link PdnReader}, before its moves are checked against the rules. Validation is
+ * independent of the reader, so that it can run on other threads.
+ */
+public class RawPdnGame {
+
+    private static final ThreadLocal<MoveNotation> MOVE_NOTATION = ThreadLocal.withInitial(MoveNotation::new);
+
+    private final int number;
+    private final int line;
+    private final Map<String, String> tags;
+    private final List<String> moves;
+    private final int[] moveLines;
+    private final String result;
+
+    RawPdnGame(int number, int line, Map<String, String> tags, List<String> moves, int[] moveLines, String result) {
+        this.number = number;
+        this.line = line;
+        this.tags = Collections.unmodifiableMap(new LinkedHashMap<>(tags));
+        this.moves = List.copyOf(moves);
+        this.moveLines = moveLines;
+        this.result = result;
+    }
+
+    /**
+     * The position of the game in its input, starting from 1.
+     */
+    public int getNumber() {
+        return number;
+    }
+
+    public Map<String, String> getTags() {
+        return tags;
+    }
+
+    public List<String> getMoves() {
+        return moves;
+    }
+
+    public String getResult() {
+        return result;
+    }
+
+    public PdnGame validate() {
+        Position startPosition = Position.initial();
+        if (tags.containsKey("FEN")) {
+            try {
+                startPosition = Position.fromFen(tags.get("FEN"));
+            } catch (IllegalArgumentException e) {
+                throw error(line, e);
+            }
+        }
+        BitBoard bitBoard = startPosition.toBitBoard();
+        MoveNotation moveNotation = MOVE_NOTATION.get();
+        long[] validMoves = new long[moves.size()];
+        for (int i = 0; i < validMoves.length; i++) {
+            try {
+                validMoves[i] = moveNotation.parse(moves.get(i), bitBoard);
+            } catch (IllegalArgumentException e) {
+                throw error(moveLines[i], e);
+            }
+            bitBoard.makeMove(validMoves[i]);
+        }
+        return new PdnGame(tags, startPosition, validMoves, result);
+    }
+
+    private InvalidPdnException error(int line, IllegalArgumentException cause) {
+        return new InvalidPdnException("Game " + number + ", line " + line + ": " + cause.getMessage(), cause);
+    }
+
+}
@@ -0,0 +1,63 @@
+package it.units.italiandraughts.tablebase;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.IntFunction;
+
+/**
+ * Least recently used cache of decompressed tablebase blocks, shared by the threads probing the same tablebase.
+ * Blocks are loaded outside the lock, so a miss does not hold up the other threads; two threads missing the same
+ * block at once may both load it.
+ */
+class BlockCache {
+
+    private final int capacity;
+    private final LinkedHashMap<Integer, byte[]> blocks;
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+
+    BlockCache(int capacity) {
+        if (capacity < 1) {
+            throw new IllegalArgumentException("The cache must hold at least one block");
+        }
+        this.capacity = capacity;
+        this.blocks = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<Integer, byte[]> eldest) {
+                return size() > BlockCache.this.capacity;
+            }
+        };
+    }
+
+    byte[] get(int block, IntFunction<byte[]> loader) {
+        synchronized (blocks) {
+            byte[] values = blocks.get(block);
+            if (values != null) {
+                hits.increment();
+                return values;
+            }
+        }
+        misses.increment();
+        byte[] values = loader.apply(block);
+        synchronized (blocks) {
+            blocks.put(block, values);
+        }
+        return values;
+    }
+
+    int size() {
+        synchronized (blocks) {
+            return blocks.size();
+        }
+    }
+
+    int getCapacity() {
+        return capacity;
+    }
+
+    double getHitRate() {
+        long probes = hits.sum() + misses.sum();
+        return probes == 0 ? 0 : (double) hits.sum() / probes;
+    }
+}
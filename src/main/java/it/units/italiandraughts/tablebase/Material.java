@@ -0,0 +1,55 @@
+package it.units.italiandraughts.tablebase;
+
+import it.units.italiandraughts.logic.BitBoard;
+
+/**
+ * The pieces on the board, which is what splits a tablebase into slices: no move can add pieces or turn a king back
+ * into a man, so every slice only depends on itself and on slices with fewer pieces or fewer men.
+ */
+public record Material(int whiteMen, int whiteKings, int blackMen, int blackKings) {
+
+    public Material {
+        if (whiteMen < 0 || whiteKings < 0 || blackMen < 0 || blackKings < 0) {
+            throw new IllegalArgumentException("Piece counts cannot be negative");
+        }
+        if (whiteMen + whiteKings + blackMen + blackKings > BitBoard.SQUARES) {
+            throw new IllegalArgumentException("There cannot be more pieces than squares");
+        }
+    }
+
+    public static Material of(BitBoard bitBoard) {
+        return new Material(Integer.bitCount(bitBoard.getWhiteMen()), Integer.bitCount(bitBoard.getWhiteKings()),
+                Integer.bitCount(bitBoard.getBlackMen()), Integer.bitCount(bitBoard.getBlackKings()));
+    }
+
+    /**
+     * @return the material with the colours swapped
+     */
+    public Material flip() {
+        return new Material(blackMen, blackKings, whiteMen, whiteKings);
+    }
+
+    /**
+     * Only one of a material and its flip is stored, since swapping colours and turning the board around gives the
+     * same positions: the one where white has more pieces, or as many but more kings.
+     */
+    public boolean isCanonical() {
+        int white = whiteMen + whiteKings;
+        int black = blackMen + blackKings;
+        return white > black || white == black && whiteKings >= blackKings;
+    }
+
+    public int getPieceCount() {
+        return whiteMen + whiteKings + blackMen + blackKings;
+    }
+
+    public int getMenCount() {
+        return whiteMen + blackMen;
+    }
+
+    @Override
+    public String toString() {
+        return "W" + "m".repeat(whiteMen) + "k".repeat(whiteKings) + "B" + "m".repeat(blackMen)
+                + "k".repeat(blackKings);
+    }
+}
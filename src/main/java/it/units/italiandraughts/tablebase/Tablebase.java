@@ -0,0 +1,159 @@
+package it.units.italiandraughts.tablebase;
+
+import it.units.italiandraughts.logic.BitBoard;
+import it.units.italiandraughts.logic.KnownResult;
+import it.units.italiandraughts.logic.KnownResultProbe;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.zip.DataFormatException;
+import java.util.zip.Inflater;
+
+/**
+ * Probes a tablebase written by {@link TablebaseGenerator}. Only the directory is read when opening; blocks are read
+ * and decompressed when a position in them is first probed and then kept in a {@link BlockCache}. Positions whose
+ * material is stored with the colours swapped are turned around before probing. Thread safe.
+ */
+public class Tablebase implements KnownResultProbe, Closeable {
+
+    public static final int DEFAULT_CACHE_MEGABYTES = 16;
+
+    private record Slice(int size, int firstBlock) {
+    }
+
+    private final FileChannel channel;
+    private final boolean distances;
+    private final int blockSize;
+    private final Map<Material, Slice> slices = new HashMap<>();
+    private final long[] blockOffsets;
+    private final BlockCache cache;
+    private final int maxPieces;
+
+    private Tablebase(Path path, int cacheMegabytes) throws IOException {
+        channel = FileChannel.open(path, StandardOpenOption.READ);
+        try {
+            ByteBuffer header = read(0, 4 * Integer.BYTES);
+            if (header.getInt() != TablebaseFormat.MAGIC) {
+                throw new IOException("Not a tablebase: " + path);
+            }
+            distances = (header.getInt() & TablebaseFormat.DISTANCES_FLAG) != 0;
+            blockSize = header.getInt();
+            int sliceCount = header.getInt();
+            int directorySize = sliceCount * (4 + 2 * Integer.BYTES);
+            int largestSlice = 0;
+            ByteBuffer directory = read(header.capacity(), directorySize + Integer.BYTES);
+            for (int i = 0; i < sliceCount; i++) {
+                Material material = new Material(directory.get(), directory.get(), directory.get(), directory.get());
+                slices.put(material, new Slice(directory.getInt(), directory.getInt()));
+                largestSlice = Math.max(largestSlice, material.getPieceCount());
+            }
+            maxPieces = largestSlice;
+            blockOffsets = new long[directory.getInt() + 1];
+            read(header.capacity() + directory.capacity(), blockOffsets.length * Long.BYTES).asLongBuffer()
+                    .get(blockOffsets);
+        } catch (IOException | RuntimeException e) {
+            channel.close();
+            throw e;
+        }
+        cache = new BlockCache((int) Math.max(1, (long) cacheMegabytes * 1024 * 1024 / blockSize));
+    }
+
+    public static Tablebase open(Path path) throws IOException {
+        return open(path, DEFAULT_CACHE_MEGABYTES);
+    }
+
+    public static Tablebase open(Path path, int cacheMegabytes) throws IOException {
+        return new Tablebase(path, cacheMegabytes);
+    }
+
+    private ByteBuffer read(long position, int length) throws IOException {
+        ByteBuffer buffer = ByteBuffer.allocate(length);
+        while (buffer.hasRemaining()) {
+            if (channel.read(buffer, position + buffer.position()) < 0) {
+                throw new IOException("The tablebase is truncated");
+            }
+        }
+        return buffer.flip();
+    }
+
+    private byte[] readBlock(int block) {
+        Inflater inflater = new Inflater();
+        try {
+            ByteBuffer compressed = read(blockOffsets[block], (int) (blockOffsets[block + 1] - blockOffsets[block]));
+            inflater.setInput(compressed);
+            byte[] values = new byte[blockSize];
+            int length = 0;
+            while (!inflater.finished() && length < values.length) {
+                length += inflater.inflate(values, length, values.length - length);
+            }
+            return length == values.length ? values : Arrays.copyOf(values, length);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        } catch (DataFormatException e) {
+            throw new UncheckedIOException(new IOException("Block " + block + " of the tablebase is corrupt", e));
+        } finally {
+            inflater.end();
+        }
+    }
+
+    /**
+     * @return the result of the position, null if its material is not in the tablebase
+     */
+    @Override
+    public KnownResult probe(BitBoard position) {
+        if ((position.isWhiteToMove() ? position.getWhitePieces() : position.getBlackPieces()) == 0) {
+            return TablebaseFormat.toResult(TablebaseFormat.encode(0), distances);
+        }
+        if (Integer.bitCount(position.getOccupied()) > maxPieces) {
+            return null;
+        }
+        Material material = Material.of(position);
+        Slice slice = slices.get(material);
+        if (slice == null) {
+            material = material.flip();
+            slice = slices.get(material);
+            if (slice == null) {
+                return null;
+            }
+            position = flip(position);
+        }
+        int index = TablebaseIndex.index(position, material);
+        byte[] values = cache.get(slice.firstBlock() + index / blockSize, this::readBlock);
+        return TablebaseFormat.toResult(values[index % blockSize] & 0xff, distances);
+    }
+
+    /**
+     * @return the position with the colours swapped and the board turned around, which has the same result
+     */
+    static BitBoard flip(BitBoard position) {
+        return new BitBoard(Integer.reverse(position.getBlackMen()), Integer.reverse(position.getBlackKings()),
+                Integer.reverse(position.getWhiteMen()), Integer.reverse(position.getWhiteKings()),
+                !position.isWhiteToMove());
+    }
+
+    public int getMaxPieces() {
+        return maxPieces;
+    }
+
+    public boolean hasDistances() {
+        return distances;
+    }
+
+    public double getCacheHitRate() {
+        return cache.getHitRate();
+    }
+
+    @Override
+    public void close() throws IOException {
+        channel.close();
+    }
+
+}
@@ -0,0 +1,58 @@
+package it.units.italiandraughts.tablebase;
+
+import it.units.italiandraughts.logic.KnownResult;
+
+/**
+ * Layout of a tablebase file and of the values in it. The file starts with a header (magic, flags, block size, slice
+ * count), followed by one directory entry per slice (its four piece counts as bytes, its size and its first block),
+ * the block count and the file offsets of every block plus the end of the last one; then come the blocks, each
+ * holding the values of up to block size consecutive positions compressed with {@link java.util.zip.Deflater}.
+ * <p>
+ * A value is one unsigned byte: 0 for a draw, otherwise the number of plies to the end of the game plus one, so
+ * that odd distances are wins and even ones are losses for the side to move. Files without distances keep only
+ * {@link #LOSS_VALUE} and {@link #WIN_VALUE}.
+ */
+final class TablebaseFormat {
+
+    static final int MAGIC = 0x49544231;
+    static final int DISTANCES_FLAG = 1;
+    static final int BLOCK_SIZE = 1 << 16;
+    static final int DRAW_VALUE = 0;
+    static final int LOSS_VALUE = 1;
+    static final int WIN_VALUE = 2;
+    static final int MAX_DISTANCE = 254;
+
+    private TablebaseFormat() {
+    }
+
+    static int encode(int distance) {
+        return distance + 1;
+    }
+
+    static int getDistance(int value) {
+        return value - 1;
+    }
+
+    static boolean isWin(int value) {
+        return value != DRAW_VALUE && value % 2 == 0;
+    }
+
+    static boolean isLoss(int value) {
+        return value % 2 == 1;
+    }
+
+    /**
+     * @return the value without its distance, which compresses far better
+     */
+    static int toWinDrawLoss(int value) {
+        return value == DRAW_VALUE ? DRAW_VALUE : isWin(value) ? WIN_VALUE : LOSS_VALUE;
+    }
+
+    static KnownResult toResult(int value, boolean distances) {
+        if (value == DRAW_VALUE) {
+            return new KnownResult(KnownResult.Outcome.DRAW, KnownResult.UNKNOWN_DISTANCE);
+        }
+        return new KnownResult(isWin(value) ? KnownResult.Outcome.WIN : KnownResult.Outcome.LOSS,
+                distances ? getDistance(value) : KnownResult.UNKNOWN_DISTANCE);
+    }
+}
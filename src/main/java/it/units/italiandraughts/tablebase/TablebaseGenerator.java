@@ -0,0 +1,293 @@
+package it.units.italiandraughts.tablebase;
+
+import it.units.italiandraughts.logic.BitBoard;
+import it.units.italiandraughts.logic.MoveGenerator;
+import it.units.italiandraughts.logic.MoveList;
+
+import java.io.BufferedOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import java.util.zip.Deflater;
+
+/**
+ * Solves every endgame up to a number of pieces by retrograde analysis and writes the result in the
+ * {@link TablebaseFormat}. Slices are solved from the fewest pieces and men up, those that do not depend on each
+ * other in parallel; a slice is solved in passes over its positions, where pass n finds the ones that are won or
+ * lost in n plies from the positions already known, and whatever is left when no pass can find more is drawn.
+ * Moves come from the {@link MoveGenerator}, so the tables follow exactly the rules of the game. Usage:
+ * TablebaseGenerator maxPieces file [threads] [--no-distances]
+ */
+public class TablebaseGenerator {
+
+    public static final int MAX_PIECES = 6;
+    private static final int CHUNK_SIZE = 4096;
+
+    private final int maxPieces;
+    private final ForkJoinPool pool;
+    private final Map<Material, byte[]> solved = new ConcurrentHashMap<>();
+    private volatile int longestDistance;
+
+    public TablebaseGenerator(int maxPieces, int threads) {
+        if (maxPieces < 2 || maxPieces > MAX_PIECES) {
+            throw new IllegalArgumentException("Tablebases can have from 2 to " + MAX_PIECES + " pieces");
+        }
+        if (threads < 1) {
+            throw new IllegalArgumentException("At least one thread is needed");
+        }
+        this.maxPieces = maxPieces;
+        this.pool = new ForkJoinPool(threads);
+    }
+
+    /**
+     * @return every slice with at least one piece per side and at most the given pieces, in the order they can be
+     * solved
+     */
+    static List<Material> getSlices(int maxPieces) {
+        List<Material> slices = new ArrayList<>();
+        for (int pieces = 2; pieces <= maxPieces; pieces++) {
+            for (int white = 1; white < pieces; white++) {
+                for (int whiteMen = 0; whiteMen <= white; whiteMen++) {
+                    for (int blackMen = 0; blackMen <= pieces - white; blackMen++) {
+                        slices.add(new Material(whiteMen, white - whiteMen, blackMen, pieces - white - blackMen));
+                    }
+                }
+            }
+        }
+        slices.sort(Comparator.comparingInt(Material::getPieceCount).thenComparingInt(Material::getMenCount));
+        return slices;
+    }
+
+    /**
+     * Solves all the slices, keeping them in memory.
+     */
+    Map<Material, byte[]> solve() {
+        Map<Integer, List<Material>> levels = getSlices(maxPieces).stream().collect(Collectors.groupingBy(
+                material -> material.getPieceCount() * BitBoard.SQUARES + material.getMenCount()));
+        levels.keySet().stream().sorted().forEach(level -> {
+            try {
+                pool.submit(() -> levels.get(level).parallelStream().forEach(material -> {
+                    byte[] values = solve(material);
+                    solved.put(material, values);
+                })).get();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new IllegalStateException("The generation was interrupted", e);
+            } catch (ExecutionException e) {
+                throw new IllegalStateException("Solving a slice failed", e.getCause());
+            }
+        });
+        return solved;
+    }
+
+    private byte[] solve(Material material) {
+        long size = TablebaseIndex.size(material);
+        if (size > Integer.MAX_VALUE) {
+            throw new IllegalArgumentException("The " + material + " slice is too large");
+        }
+        byte[] values = new byte[(int) size];
+        int chunks = (values.length + CHUNK_SIZE - 1) / CHUNK_SIZE;
+        // the longest distance in the other slices a move reaches, found by the first pass since it tries every move
+        AtomicInteger dependencyDistance = new AtomicInteger(-1);
+        for (int distance = 0; ; distance++) {
+            if (distance > TablebaseFormat.MAX_DISTANCE) {
+                throw new IllegalStateException("The " + material + " slice has wins longer than "
+                        + TablebaseFormat.MAX_DISTANCE + " plies");
+            }
+            int pass = distance;
+            long resolved = IntStream.range(0, chunks).parallel()
+                    .mapToLong(chunk -> solveChunk(material, values, chunk, pass, dependencyDistance)).sum();
+            if (resolved > 0) {
+                updateLongestDistance(distance);
+            } else if (distance > dependencyDistance.get()) {
+                return values;
+            }
+        }
+    }
+
+    private synchronized void updateLongestDistance(int distance) {
+        longestDistance = Math.max(longestDistance, distance);
+    }
+
+    /**
+     * Finds the positions of a chunk that are won or lost in exactly the given plies: the ones with a move to a
+     * position lost in one ply less, or whose moves all lead to positions won in fewer plies. Values written during
+     * the same pass are longer than that, so chunks can be solved concurrently.
+     */
+    private long solveChunk(Material material, byte[] values, int chunk, int distance,
+                            AtomicInteger dependencyDistance) {
+        MoveGenerator moveGenerator = new MoveGenerator();
+        MoveList moves = new MoveList();
+        long resolved = 0;
+        int longestDependency = -1;
+        for (int index = chunk * CHUNK_SIZE; index < Math.min(values.length, (chunk + 1) * CHUNK_SIZE); index++) {
+            if (values[index] != TablebaseFormat.DRAW_VALUE) {
+                continue;
+            }
+            BitBoard position = TablebaseIndex.decode(material, index);
+            if (position == null) {
+                continue;
+            }
+            int count = moveGenerator.generate(position, moves);
+            boolean winning = false;
+            boolean losing = true;
+            for (int i = 0; i < count && !winning; i++) {
+                moves.makeMove(position, i);
+                int value = getValue(position, material, values);
+                if (distance == 0 && value != TablebaseFormat.DRAW_VALUE && !material.equals(Material.of(position))) {
+                    longestDependency = Math.max(longestDependency, TablebaseFormat.getDistance(value));
+                }
+                moves.undoMove(position, i);
+                boolean known = value != TablebaseFormat.DRAW_VALUE && TablebaseFormat.getDistance(value) < distance;
+                winning = known && TablebaseFormat.isLoss(value);
+                losing &= known && TablebaseFormat.isWin(value);
+            }
+            if (winning || losing) {
+                values[index] = (byte) TablebaseFormat.encode(distance);
+                resolved++;
+            }
+        }
+        dependencyDistance.accumulateAndGet(longestDependency, Math::max);
+        return resolved;
+    }
+
+    private int getValue(BitBoard position, Material parentMaterial, byte[] parentValues) {
+        if ((position.isWhiteToMove() ? position.getWhitePieces() : position.getBlackPieces()) == 0) {
+            return TablebaseFormat.encode(0);
+        }
+        Material material = Material.of(position);
+        byte[] values = material.equals(parentMaterial) ? parentValues : solved.get(material);
+        return values[TablebaseIndex.index(position, material)] & 0xff;
+    }
+
+    /**
+     * Solves all the slices and writes the canonical ones to the given file.
+     *
+     * @param distances whether to keep the distance to the end, rather than only wins, draws and losses
+     */
+    public void generate(Path path, boolean distances) throws IOException {
+        Map<Material, byte[]> tables = solve();
+        List<Material> slices = getSlices(maxPieces).stream().filter(Material::isCanonical)
+                .collect(Collectors.toList());
+        List<byte[]> blocks = new ArrayList<>();
+        for (Material material : slices) {
+            byte[] values = tables.get(material);
+            for (int start = 0; start < values.length; start += TablebaseFormat.BLOCK_SIZE) {
+                blocks.add(Arrays.copyOfRange(values, start, Math.min(values.length,
+                        start + TablebaseFormat.BLOCK_SIZE)));
+            }
+        }
+        List<byte[]> compressed;
+        try {
+            compressed = pool.submit(() -> blocks.parallelStream().map(block -> compress(block, distances))
+                    .collect(Collectors.toList())).get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IOException("The generation was interrupted", e);
+        } catch (ExecutionException e) {
+            throw new IllegalStateException("Compressing a block failed", e.getCause());
+        }
+
+        try (DataOutputStream output = new DataOutputStream(new BufferedOutputStream(Files.newOutputStream(path),
+                1 << 16))) {
+            output.writeInt(TablebaseFormat.MAGIC);
+            output.writeInt(distances ? TablebaseFormat.DISTANCES_FLAG : 0);
+            output.writeInt(TablebaseFormat.BLOCK_SIZE);
+            output.writeInt(slices.size());
+            int firstBlock = 0;
+            for (Material material : slices) {
+                output.writeByte(material.whiteMen());
+                output.writeByte(material.whiteKings());
+                output.writeByte(material.blackMen());
+                output.writeByte(material.blackKings());
+                int size = tables.get(material).length;
+                output.writeInt(size);
+                output.writeInt(firstBlock);
+                firstBlock += (size + TablebaseFormat.BLOCK_SIZE - 1) / TablebaseFormat.BLOCK_SIZE;
+            }
+            output.writeInt(compressed.size());
+            long offset = output.size() + (long) (compressed.size() + 1) * Long.BYTES;
+            for (byte[] block : compressed) {
+                output.writeLong(offset);
+                offset += block.length;
+            }
+            output.writeLong(offset);
+            for (byte[] block : compressed) {
+                output.write(block);
+            }
+        }
+    }
+
+    private static byte[] compress(byte[] block, boolean distances) {
+        byte[] input = block;
+        if (!distances) {
+            input = new byte[block.length];
+            for (int i = 0; i < block.length; i++) {
+                input[i] = (byte) TablebaseFormat.toWinDrawLoss(block[i] & 0xff);
+            }
+        }
+        Deflater deflater = new Deflater(Deflater.BEST_COMPRESSION);
+        try {
+            deflater.setInput(input);
+            deflater.finish();
+            byte[] buffer = new byte[input.length + 64];
+            int length = 0;
+            while (!deflater.finished()) {
+                if (length == buffer.length) {
+                    buffer = Arrays.copyOf(buffer, buffer.length * 2);
+                }
+                length += deflater.deflate(buffer, length, buffer.length - length);
+            }
+            return Arrays.copyOf(buffer, length);
+        } finally {
+            deflater.end();
+        }
+    }
+
+    /**
+     * @return the longest win or loss found, in plies
+     */
+    public int getLongestDistance() {
+        return longestDistance;
+    }
+
+    public void shutdown() {
+        pool.shutdown();
+    }
+
+    public static void main(String[] args) throws IOException {
+        if (args.length < 2) {
+            System.err.println("Usage: TablebaseGenerator maxPieces file [threads] [--no-distances]");
+            System.exit(1);
+        }
+        int maxPieces = Integer.parseInt(args[0]);
+        int threads = Runtime.getRuntime().availableProcessors();
+        boolean distances = true;
+        for (int i = 2; i < args.length; i++) {
+            if (args[i].equals("--no-distances")) {
+                distances = false;
+            } else {
+                threads = Integer.parseInt(args[i]);
+            }
+        }
+        TablebaseGenerator generator = new TablebaseGenerator(maxPieces, threads);
+        long start = System.nanoTime();
+        generator.generate(Path.of(args[1]), distances);
+        generator.shutdown();
+        System.out.printf("%d slices, longest win %d plies, %d ms, %d bytes%n", getSlices(maxPieces).size(),
+                generator.getLongestDistance(), (System.nanoTime() - start) / 1_000_000, Files.size(Path.of(args[1])));
+    }
+
+}
@@ -0,0 +1,117 @@
+package it.units.italiandraughts.tablebase;
+
+import it.units.italiandraughts.logic.BitBoard;
+
+/**
+ * Maps the positions of a {@link Material} slice to consecutive indexes and back. Each group of pieces is ranked as
+ * a combination in the colexicographic order: white men over the 28 squares they can stand on, black men over
+ * theirs, white kings over the squares the men left free and black kings over the rest; the side to move is the
+ * lowest digit. Only indexes where a white and a black man share a square are unused.
+ */
+final class TablebaseIndex {
+
+    private static final int MEN_SQUARES = 28;
+    // white men never stand on row 0 and black men never stand on row 7
+    private static final int WHITE_MEN_SHIFT = 4;
+    private static final long[][] BINOMIAL = new long[BitBoard.SQUARES + 1][BitBoard.SQUARES + 1];
+
+    static {
+        for (int n = 0; n <= BitBoard.SQUARES; n++) {
+            BINOMIAL[n][0] = 1;
+            for (int k = 1; k <= n; k++) {
+                BINOMIAL[n][k] = BINOMIAL[n - 1][k - 1] + BINOMIAL[n - 1][k];
+            }
+        }
+    }
+
+    private TablebaseIndex() {
+    }
+
+    static long size(Material material) {
+        int men = material.getMenCount();
+        return BINOMIAL[MEN_SQUARES][material.whiteMen()] * BINOMIAL[MEN_SQUARES][material.blackMen()]
+                * BINOMIAL[BitBoard.SQUARES - men][material.whiteKings()]
+                * BINOMIAL[BitBoard.SQUARES - men - material.whiteKings()][material.blackKings()] * 2;
+    }
+
+    /**
+     * @param material the material of the position, which the caller usually knows already
+     */
+    static int index(BitBoard bitBoard, Material material) {
+        int free = ~(bitBoard.getWhiteMen() | bitBoard.getBlackMen());
+        int men = material.getMenCount();
+        long index = rank(bitBoard.getWhiteMen() >>> WHITE_MEN_SHIFT);
+        index = index * BINOMIAL[MEN_SQUARES][material.blackMen()] + rank(bitBoard.getBlackMen());
+        index = index * BINOMIAL[BitBoard.SQUARES - men][material.whiteKings()]
+                + rank(compress(bitBoard.getWhiteKings(), free));
+        index = index * BINOMIAL[BitBoard.SQUARES - men - material.whiteKings()][material.blackKings()]
+                + rank(compress(bitBoard.getBlackKings(), free & ~bitBoard.getWhiteKings()));
+        return (int) (index * 2 + (bitBoard.isWhiteToMove() ? 0 : 1));
+    }
+
+    /**
+     * @return the position with the given index, null if the index is unused
+     */
+    static BitBoard decode(Material material, int index) {
+        int men = material.getMenCount();
+        boolean whiteToMove = index % 2 == 0;
+        long rest = index / 2;
+        long blackKingCombinations = BINOMIAL[BitBoard.SQUARES - men - material.whiteKings()][material.blackKings()];
+        int blackKingRank = (int) (rest % blackKingCombinations);
+        rest /= blackKingCombinations;
+        long whiteKingCombinations = BINOMIAL[BitBoard.SQUARES - men][material.whiteKings()];
+        int whiteKingRank = (int) (rest % whiteKingCombinations);
+        rest /= whiteKingCombinations;
+        long blackMenCombinations = BINOMIAL[MEN_SQUARES][material.blackMen()];
+        int blackMen = unrank(rest % blackMenCombinations, material.blackMen());
+        int whiteMen = unrank(rest / blackMenCombinations, material.whiteMen()) << WHITE_MEN_SHIFT;
+        if ((whiteMen & blackMen) != 0) {
+            return null;
+        }
+        int free = ~(whiteMen | blackMen);
+        int whiteKings = expand(unrank(whiteKingRank, material.whiteKings()), free);
+        int blackKings = expand(unrank(blackKingRank, material.blackKings()), free & ~whiteKings);
+        return new BitBoard(whiteMen, whiteKings, blackMen, blackKings, whiteToMove);
+    }
+
+    private static long rank(int combination) {
+        long rank = 0;
+        int k = 1;
+        for (int rest = combination; rest != 0; rest &= rest - 1) {
+            rank += BINOMIAL[Integer.numberOfTrailingZeros(rest)][k++];
+        }
+        return rank;
+    }
+
+    private static int unrank(long rank, int k) {
+        int combination = 0;
+        for (int i = k; i >= 1; i--) {
+            int element = i - 1;
+            while (element < BitBoard.SQUARES - 1 && BINOMIAL[element + 1][i] <= rank) {
+                element++;
+            }
+            rank -= BINOMIAL[element][i];
+            combination |= 1 << element;
+        }
+        return combination;
+    }
+
+    // numbers the given squares by their rank among the free ones
+    private static int compress(int squares, int free) {
+        int compressed = 0;
+        for (int rest = squares; rest != 0; rest &= rest - 1) {
+            compressed |= 1 << Integer.bitCount(free & (Integer.lowestOneBit(rest) - 1));
+        }
+        return compressed;
+    }
+
+    private static int expand(int compressed, int free) {
+        int squares = 0;
+        for (int rest = free; compressed != 0; rest &= rest - 1, compressed >>>= 1) {
+            if ((compressed & 1) != 0) {
+                squares |= Integer.lowestOneBit(rest);
+            }
+        }
+        return squares;
+    }
+}
@@ -0,0 +1,53 @@
+package it.units.italiandraughts.tournament;
+
+/**
+ * Elo difference implied by a match score, with the half width of its 95% confidence interval.
+ */
+public record EloEstimate(double elo, double error) {
+
+    private static final double CONFIDENCE_Z = 1.959964;
+
+    public static EloEstimate of(int wins, int draws, int losses) {
+        int games = wins + draws + losses;
+        if (games == 0) {
+            return new EloEstimate(0, Double.POSITIVE_INFINITY);
+        }
+        double score = getScore(wins, draws, losses);
+        double deviation = Math.sqrt(getVariance(wins, draws, losses) / games);
+        double low = getElo(score - CONFIDENCE_Z * deviation);
+        double high = getElo(score + CONFIDENCE_Z * deviation);
+        return new EloEstimate(getElo(score), (high - low) / 2);
+    }
+
+    static double getScore(int wins, int draws, int losses) {
+        return (wins + draws / 2.0) / (wins + draws + losses);
+    }
+
+    /**
+     * @return the variance of the result of one game, counting a win as 1, a draw as 0.5 and a loss as 0
+     */
+    static double getVariance(int wins, int draws, int losses) {
+        double score = getScore(wins, draws, losses);
+        return (wins * Math.pow(1 - score, 2) + draws * Math.pow(0.5 - score, 2) + losses * Math.pow(score, 2))
+                / (wins + draws + losses);
+    }
+
+    public static double getElo(double score) {
+        if (score <= 0) {
+            return Double.NEGATIVE_INFINITY;
+        }
+        if (score >= 1) {
+            return Double.POSITIVE_INFINITY;
+        }
+        return -400 * Math.log10(1 / score - 1);
+    }
+
+    public static double getExpectedScore(double elo) {
+        return 1 / (1 + Math.pow(10, -elo / 400));
+    }
+
+    @Override
+    public String toString() {
+        return String.format("%.1f +- %.1f", elo, error);
+    }
+}
@@ -0,0 +1,64 @@
+package it.units.italiandraughts.tournament;
+
+import it.units.italiandraughts.engine.Engine;
+
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * How an engine plays in a tournament, parsed from a specification such as "depth=8,time=100,hash=16,book=file";
+ * a time of 0 means no limit.
+ */
+public record EngineSettings(int depth, long timeMillis, int hashMegabytes, Path book) {
+
+    public static final int DEFAULT_DEPTH = 6;
+    public static final int DEFAULT_HASH_MEGABYTES = 16;
+
+    public EngineSettings {
+        if (depth < 1 || depth > Engine.MAX_PLY) {
+            throw new IllegalArgumentException("The depth must be between 1 and " + Engine.MAX_PLY);
+        }
+        if (timeMillis < 0 || hashMegabytes < 1) {
+            throw new IllegalArgumentException("The time cannot be negative and the hash must be at least 1 MB");
+        }
+    }
+
+    public static EngineSettings parse(String specification) {
+        int depth = DEFAULT_DEPTH;
+        long timeMillis = 0;
+        int hashMegabytes = DEFAULT_HASH_MEGABYTES;
+        Path book = null;
+        for (String option : specification.split(",")) {
+            if (option.isBlank()) {
+                continue;
+            }
+            String[] keyAndValue = option.split("=", 2);
+            if (keyAndValue.length != 2) {
+                throw new IllegalArgumentException("Expected key=value instead of " + option);
+            }
+            String value = keyAndValue[1].trim();
+            switch (keyAndValue[0].trim()) {
+                case "depth" -> depth = Integer.parseInt(value);
+                case "time" -> timeMillis = Long.parseLong(value);
+                case "hash" -> hashMegabytes = Integer.parseInt(value);
+                case "book" -> book = Path.of(value);
+                default -> throw new IllegalArgumentException("Unknown engine option " + keyAndValue[0]);
+            }
+        }
+        return new EngineSettings(depth, timeMillis, hashMegabytes, book);
+    }
+
+    @Override
+    public String toString() {
+        List<String> options = new ArrayList<>(List.of("depth=" + depth));
+        if (timeMillis > 0) {
+            options.add("time=" + timeMillis);
+        }
+        options.add("hash=" + hashMegabytes);
+        if (book != null) {
+            options.add("book=" + book);
+        }
+        return String.join(",", options);
+    }
+}
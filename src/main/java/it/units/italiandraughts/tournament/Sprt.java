@@ -0,0 +1,75 @@
+package it.units.italiandraughts.tournament;
+
+/**
+ * Sequential probability ratio test of the hypothesis that the Elo difference is elo1 against the one that it is
+ * elo0, so that a match can stop as soon as its result is clear. The log likelihood ratio uses the normal
+ * approximation of the match score, with the variance of the games played so far.
+ */
+public class Sprt {
+
+    public enum Decision {
+        ACCEPT_H0, ACCEPT_H1, CONTINUE
+    }
+
+    private final double elo0;
+    private final double elo1;
+    private final double lowerBound;
+    private final double upperBound;
+
+    /**
+     * @param alpha the probability of accepting elo1 when elo0 is true
+     * @param beta  the probability of accepting elo0 when elo1 is true
+     */
+    public Sprt(double elo0, double elo1, double alpha, double beta) {
+        if (elo0 >= elo1) {
+            throw new IllegalArgumentException("elo0 must be lower than elo1");
+        }
+        if (alpha <= 0 || alpha >= 1 || beta <= 0 || beta >= 1) {
+            throw new IllegalArgumentException("alpha and beta must be between 0 and 1");
+        }
+        this.elo0 = elo0;
+        this.elo1 = elo1;
+        lowerBound = Math.log(beta / (1 - alpha));
+        upperBound = Math.log((1 - beta) / alpha);
+    }
+
+    public double getLlr(int wins, int draws, int losses) {
+        int games = wins + draws + losses;
+        if (games == 0) {
+            return 0;
+        }
+        double variance = EloEstimate.getVariance(wins, draws, losses);
+        if (variance == 0) {
+            // the games so far say nothing about how much results vary
+            return 0;
+        }
+        double score = EloEstimate.getScore(wins, draws, losses);
+        double score0 = EloEstimate.getExpectedScore(elo0);
+        double score1 = EloEstimate.getExpectedScore(elo1);
+        return games * (score1 - score0) * (2 * score - score0 - score1) / (2 * variance);
+    }
+
+    public Decision getDecision(int wins, int draws, int losses) {
+        double llr = getLlr(wins, draws, losses);
+        if (llr >= upperBound) {
+            return Decision.ACCEPT_H1;
+        }
+        if (llr <= lowerBound) {
+            return Decision.ACCEPT_H0;
+        }
+        return Decision.CONTINUE;
+    }
+
+    public double getLowerBound() {
+        return lowerBound;
+    }
+
+    public double getUpperBound() {
+        return upperBound;
+    }
+
+    @Override
+    public String toString() {
+        return String.format("SPRT [%.1f, %.1f]", elo0, elo1);
+    }
+}
@@ -0,0 +1,339 @@
+package it.units.italiandraughts.tournament;
+
+import it.units.italiandraughts.book.OpeningBook;
+import it.units.italiandraughts.engine.Engine;
+import it.units.italiandraughts.engine.SearchResult;
+import it.units.italiandraughts.engine.TranspositionTable;
+import it.units.italiandraughts.logic.BitBoard;
+import it.units.italiandraughts.logic.Evaluation;
+import it.units.italiandraughts.logic.KnownResult;
+import it.units.italiandraughts.logic.MoveGenerator;
+import it.units.italiandraughts.logic.MoveList;
+import it.units.italiandraughts.logic.Position;
+import it.units.italiandraughts.pdn.PdnGame;
+import it.units.italiandraughts.pdn.PdnWriter;
+import it.units.italiandraughts.tablebase.Tablebase;
+
+import java.io.IOException;
+import java.io.PrintStream;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+
+/**
+ * Plays engine against engine without any user interface, one game per worker thread, each worker with its own
+ * pair of engines. Every opening is played twice with the colours swapped. Games end when a side has no moves, by
+ * threefold repetition, at the ply limit, when a side has scored itself lost for several moves in a row or when the
+ * optional tablebase knows the result. Results are reported for the first engine and written as PDN; with an SPRT
+ * the match stops as soon as it decides. Usage: TournamentRunner games results [--openings file] [--threads n]
+ * [--first spec] [--second spec] [--sprt elo0 elo1] [--alpha a] [--beta b] [--max-plies n] [--tablebase file]
+ */
+public class TournamentRunner {
+
+    public static final int DEFAULT_MAX_PLIES = 300;
+    static final int RESIGN_SCORE = 5 * Evaluation.MAN_VALUE;
+    static final int RESIGN_MOVES = 4;
+    private static final int REPETITIONS = 3;
+
+    private final EngineSettings first;
+    private final EngineSettings second;
+    private final List<Position> openings;
+    private final int threads;
+    private int maxPlies = DEFAULT_MAX_PLIES;
+    private Sprt sprt;
+    private Tablebase tablebase;
+    private final Map<Path, OpeningBook> books = new HashMap<>();
+
+    private int wins;
+    private int draws;
+    private int losses;
+    private Sprt.Decision decision = Sprt.Decision.CONTINUE;
+
+    /**
+     * The score of the first engine.
+     */
+    public record Result(int wins, int draws, int losses, Sprt.Decision decision) {
+
+        public int getGames() {
+            return wins + draws + losses;
+        }
+
+        public EloEstimate getEloEstimate() {
+            return EloEstimate.of(wins, draws, losses);
+        }
+    }
+
+    private record PlayedGame(PdnGame game, int firstScore) {
+    }
+
+    public TournamentRunner(EngineSettings first, EngineSettings second, List<Position> openings, int threads) {
+        if (openings.isEmpty()) {
+            throw new IllegalArgumentException("At least one opening is needed");
+        }
+        if (threads < 1) {
+            throw new IllegalArgumentException("At least one thread is needed");
+        }
+        this.first = first;
+        this.second = second;
+        this.openings = List.copyOf(openings);
+        this.threads = threads;
+    }
+
+    /**
+     * Reads one FEN per line, skipping blank lines and lines starting with #.
+     */
+    public static List<Position> readOpenings(Path path) throws IOException {
+        return Files.readAllLines(path).stream()
+                .map(String::trim)
+                .filter(line -> !line.isEmpty() && !line.startsWith("#"))
+                .map(Position::fromFen)
+                .collect(Collectors.toList());
+    }
+
+    public void setMaxPlies(int maxPlies) {
+        if (maxPlies < 1) {
+            throw new IllegalArgumentException("Games must be allowed at least one ply");
+        }
+        this.maxPlies = maxPlies;
+    }
+
+    /**
+     * Stops the match as soon as the given test decides; null to always play every game.
+     */
+    public void setSprt(Sprt sprt) {
+        this.sprt = sprt;
+    }
+
+    /**
+     * Ends games as soon as they reach a position in the given tablebase; null for none.
+     */
+    public void setTablebase(Tablebase tablebase) {
+        this.tablebase = tablebase;
+    }
+
+    /**
+     * Plays up to the given number of games, writing each to the results as soon as it ends.
+     *
+     * @param progress where to print a line after every game, null for nowhere
+     */
+    public Result run(int games, PdnWriter results, PrintStream progress) throws IOException {
+        AtomicInteger nextGame = new AtomicInteger();
+        ExecutorService workers = Executors.newFixedThreadPool(threads);
+        try {
+            openBooks();
+            List<Future<?>> futures = new ArrayList<>();
+            for (int i = 0; i < threads; i++) {
+                futures.add(workers.submit(() -> work(nextGame, games, results, progress)));
+            }
+            for (Future<?> future : futures) {
+                future.get();
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IOException("The tournament was interrupted", e);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof UncheckedIOException cause) {
+                throw cause.getCause();
+            }
+            throw new IllegalStateException("A game failed", e.getCause());
+        } finally {
+            workers.shutdownNow();
+            for (OpeningBook book : books.values()) {
+                book.close();
+            }
+            books.clear();
+        }
+        synchronized (this) {
+            return new Result(wins, draws, losses, decision);
+        }
+    }
+
+    private void openBooks() throws IOException {
+        for (EngineSettings settings : List.of(first, second)) {
+            if (settings.book() != null && !books.containsKey(settings.book())) {
+                books.put(settings.book(), OpeningBook.open(settings.book()));
+            }
+        }
+    }
+
+    private Engine createEngine(EngineSettings settings) {
+        Engine engine = new Engine(new TranspositionTable(settings.hashMegabytes()));
+        engine.setOpeningBook(settings.book() == null ? null : books.get(settings.book()));
+        return engine;
+    }
+
+    private void work(AtomicInteger nextGame, int games, PdnWriter results, PrintStream progress) {
+        Engine firstEngine = createEngine(first);
+        Engine secondEngine = createEngine(second);
+        for (int number = nextGame.getAndIncrement(); number < games && !isDecided();
+             number = nextGame.getAndIncrement()) {
+            record(play(number, firstEngine, secondEngine), results, progress);
+        }
+    }
+
+    private synchronized boolean isDecided() {
+        return decision != Sprt.Decision.CONTINUE;
+    }
+
+    private synchronized void record(PlayedGame played, PdnWriter results, PrintStream progress) {
+        switch (played.firstScore()) {
+            case 1 -> wins++;
+            case 0 -> draws++;
+            default -> losses++;
+        }
+        try {
+            results.write(played.game());
+            results.flush();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        if (sprt != null && decision == Sprt.Decision.CONTINUE) {
+            decision = sprt.getDecision(wins, draws, losses);
+        }
+        if (progress != null) {
+            String line = String.format("%d games: +%d =%d -%d, elo %s", wins + draws + losses, wins, draws, losses,
+                    EloEstimate.of(wins, draws, losses));
+            if (sprt != null) {
+                line += String.format(", LLR %.2f [%.2f, %.2f]%s", sprt.getLlr(wins, draws, losses),
+                        sprt.getLowerBound(), sprt.getUpperBound(),
+                        decision == Sprt.Decision.CONTINUE ? "" : " " + decision);
+            }
+            progress.println(line);
+        }
+    }
+
+    private PlayedGame play(int number, Engine firstEngine, Engine secondEngine) {
+        Position opening = openings.get(number / 2 % openings.size());
+        boolean firstIsWhite = number % 2 == 0;
+        firstEngine.getTranspositionTable().clear();
+        secondEngine.getTranspositionTable().clear();
+        BitBoard bitBoard = opening.toBitBoard();
+        MoveGenerator moveGenerator = new MoveGenerator();
+        MoveList moves = new MoveList();
+        long[] played = new long[maxPlies];
+        Map<Long, Integer> repetitions = new HashMap<>();
+        int[] losingMoves = new int[2];
+        int ply = 0;
+        int whiteScore;
+        String termination;
+        while (true) {
+            boolean whiteToMove = bitBoard.isWhiteToMove();
+            int sideToMoveScore = whiteToMove ? 1 : -1;
+            if (moveGenerator.generate(bitBoard, moves) == 0) {
+                whiteScore = -sideToMoveScore;
+                termination = "no moves";
+                break;
+            }
+            KnownResult known = tablebase == null ? null : tablebase.probe(bitBoard);
+            if (known != null) {
+                whiteScore = switch (known.outcome()) {
+                    case WIN -> sideToMoveScore;
+                    case DRAW -> 0;
+                    case LOSS -> -sideToMoveScore;
+                };
+                termination = "tablebase";
+                break;
+            }
+            if (repetitions.merge(bitBoard.getZobristKey(), 1, Integer::sum) >= REPETITIONS) {
+                whiteScore = 0;
+                termination = "repetition";
+                break;
+            }
+            if (ply == maxPlies) {
+                whiteScore = 0;
+                termination = "ply limit";
+                break;
+            }
+            boolean firstToMove = whiteToMove == firstIsWhite;
+            EngineSettings settings = firstToMove ? first : second;
+            SearchResult result = (firstToMove ? firstEngine : secondEngine).search(bitBoard, settings.depth(),
+                    settings.timeMillis());
+            int side = whiteToMove ? 0 : 1;
+            losingMoves[side] = result.getScore() <= -RESIGN_SCORE ? losingMoves[side] + 1 : 0;
+            if (losingMoves[side] >= RESIGN_MOVES) {
+                whiteScore = -sideToMoveScore;
+                termination = "resignation";
+                break;
+            }
+            played[ply++] = result.getBestMove();
+            bitBoard.makeMove(result.getBestMove());
+        }
+
+        Map<String, String> tags = new LinkedHashMap<>();
+        tags.put("Event", "Self-play");
+        tags.put("Round", String.valueOf(number + 1));
+        tags.put("White", (firstIsWhite ? first : second).toString());
+        tags.put("Black", (firstIsWhite ? second : first).toString());
+        tags.put("Termination", termination);
+        String result = whiteScore > 0 ? "2-0" : whiteScore == 0 ? "1-1" : "0-2";
+        PdnGame game = new PdnGame(tags, opening, Arrays.copyOf(played, ply), result);
+        return new PlayedGame(game, firstIsWhite ? whiteScore : -whiteScore);
+    }
+
+    public static void main(String[] args) throws IOException {
+        if (args.length < 2) {
+            System.err.println("Usage: TournamentRunner games results [--openings file] [--threads n] "
+                    + "[--first spec] [--second spec] [--sprt elo0 elo1] [--alpha a] [--beta b] [--max-plies n] "
+                    + "[--tablebase file]");
+            System.exit(1);
+        }
+        int games = Integer.parseInt(args[0]);
+        Path resultsPath = Path.of(args[1]);
+        List<Position> openings = List.of(Position.initial());
+        int threads = Runtime.getRuntime().availableProcessors();
+        EngineSettings first = EngineSettings.parse("");
+        EngineSettings second = EngineSettings.parse("");
+        double[] sprtBounds = null;
+        double alpha = 0.05;
+        double beta = 0.05;
+        int maxPlies = DEFAULT_MAX_PLIES;
+        Path tablebasePath = null;
+        for (int i = 2; i < args.length; i++) {
+            switch (args[i]) {
+                case "--openings" -> openings = readOpenings(Path.of(args[++i]));
+                case "--threads" -> threads = Integer.parseInt(args[++i]);
+                case "--first" -> first = EngineSettings.parse(args[++i]);
+                case "--second" -> second = EngineSettings.parse(args[++i]);
+                case "--sprt" -> {
+                    double elo0 = Double.parseDouble(args[++i]);
+                    sprtBounds = new double[]{elo0, Double.parseDouble(args[++i])};
+                }
+                case "--alpha" -> alpha = Double.parseDouble(args[++i]);
+                case "--beta" -> beta = Double.parseDouble(args[++i]);
+                case "--max-plies" -> maxPlies = Integer.parseInt(args[++i]);
+                case "--tablebase" -> tablebasePath = Path.of(args[++i]);
+                default -> throw new IllegalArgumentException("Unknown option " + args[i]);
+            }
+        }
+
+        TournamentRunner runner = new TournamentRunner(first, second, openings, threads);
+        runner.setMaxPlies(maxPlies);
+        if (sprtBounds != null) {
+            runner.setSprt(new Sprt(sprtBounds[0], sprtBounds[1], alpha, beta));
+        }
+        System.out.printf("%s vs %s, %d openings, %d threads%n", first, second, openings.size(), threads);
+        long start = System.nanoTime();
+        Result result;
+        try (PdnWriter results = PdnWriter.create(resultsPath);
+             Tablebase tablebase = tablebasePath == null ? null : Tablebase.open(tablebasePath)) {
+            runner.setTablebase(tablebase);
+            result = runner.run(games, results, System.out);
+        }
+        System.out.printf("%nfinished %d games in %d s: elo %s%s%n", result.getGames(),
+                (System.nanoTime() - start) / 1_000_000_000, result.getEloEstimate(),
+                sprtBounds == null ? "" : ", " + result.decision());
+    }
+
+}
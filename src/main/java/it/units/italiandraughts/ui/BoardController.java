@@ -1,6 +1,7 @@
 package it.units.italiandraughts.ui;
 
 import it.units.italiandraughts.ItalianDraughts;
+import it.units.italiandraughts.event.EventBus;
 import it.units.italiandraughts.event.EventType;
 import it.units.italiandraughts.event.GameEvent;
 import it.units.italiandraughts.event.GameEventListener;
@@ -48,7 +49,7 @@ public class BoardController implements GameEventListener {
     private Game game;
 
     private static double getBoardHeight() {
-        return StaticUtil.getScreenHeight() / 3 * 2;
+        return ScreenUtil.getScreenHeight() / 3 * 2;
     }
 
     private void showActivePlayerInBold(Player activePlayer) {
@@ -68,10 +69,13 @@ public class BoardController implements GameEventListener {
         Board board = new Board();
         Player player1 = new Player(player1NameLabel.getText(), PieceColor.WHITE);
         Player player2 = new Player(player2NameLabel.getText(), PieceColor.BLACK);
-        game = new Game(board, player1, player2);
+        EventBus eventBus = new EventBus(Platform::runLater);
+        game = new Game(board, player1, player2, eventBus);
         BoardDrawer boardDrawer = new BoardDrawer(gridPane, game);
-        game.addListeners(EventType.GAME_OVER, this);
-        game.addListeners(EventType.SWITCH_ACTIVE_PLAYER, this, boardDrawer);
+        eventBus.subscribe(EventType.GAME_OVER, this, EventBus.Delivery.UI);
+        eventBus.subscribe(EventType.SWITCH_ACTIVE_PLAYER, this, EventBus.Delivery.UI);
+        eventBus.subscribe(EventType.SWITCH_ACTIVE_PLAYER, boardDrawer, EventBus.Delivery.UI);
+        eventBus.subscribe(EventType.MOVE, new MoveSoundPlayer(), EventBus.Delivery.ASYNCHRONOUS);
 
         // resize the numbers to the left of board
         List<Node> rowLabels = rowNumbers.getChildren();
@@ -107,7 +111,7 @@ public class BoardController implements GameEventListener {
             case GAME_OVER -> {
                 FXMLLoader fxmlLoader = new FXMLLoader(getClass().getResource("EndgameLayout.fxml"));
                 try {
-                    Scene scene = new Scene(fxmlLoader.load(), StaticUtil.getScreenWidth() / 5f, StaticUtil.getScreenHeight() / 5f);
+                    Scene scene = new Scene(fxmlLoader.load(), ScreenUtil.getScreenWidth() / 5f, ScreenUtil.getScreenHeight() / 5f);
                     EndgameController controller = fxmlLoader.getController();
                     controller.setWinner((Player) event.getPayload());
                     controller.initializeWindow();
@@ -133,6 +137,7 @@ public class BoardController implements GameEventListener {
     }
 
     private void resetWindow() {
+        game.getEventBus().close();
         gridPane.getColumnConstraints().clear();
         gridPane.getRowConstraints().clear();
         gridPane.getChildren().clear();
@@ -8,7 +8,6 @@ import javafx.scene.layout.ColumnConstraints;
 import javafx.scene.layout.GridPane;
 import javafx.scene.layout.RowConstraints;
 import javafx.scene.input.MouseEvent;
-import org.jgrapht.GraphPath;
 
 import java.util.List;
 import java.util.Optional;
@@ -85,19 +84,20 @@ public class BoardDrawer implements GameEventListener {
 
         game.getAbsoluteLongestPaths()
                 .stream()
-                .filter(path -> path.getStartVertex().equals(tile))
-                .forEach(path -> path.getEndVertex().getSquare().placeGreenCircle());
+                .filter(path -> path.get(0).equals(tile))
+                .map(path -> path.get(path.size() - 1))
+                .forEach(target -> squares[target.getY()][target.getX()].placeGreenCircle());
     }
 
     private void onClickOnEmptySquare(MouseEvent event) {
         Square square = (Square) event.getSource();
         if (Status.MOVE_IN_PROGRESS.equals(status)) {
-            Optional<GraphPath<BlackTile, Edge>> absoluteLongestPathEndingOnClickedSquare = game.getAbsoluteLongestPaths().stream()
-                    .filter(path -> path.getEndVertex().equals(square.getTile())
-                            && path.getStartVertex().equals(game.getActiveTile()))
+            Optional<List<BlackTile>> absoluteLongestPathEndingOnClickedSquare = game.getAbsoluteLongestPaths().stream()
+                    .filter(path -> path.get(path.size() - 1).equals(square.getTile())
+                            && path.get(0).equals(game.getActiveTile()))
                     .findAny();
             if (absoluteLongestPathEndingOnClickedSquare.isPresent()) {
-                List<BlackTile> steps = absoluteLongestPathEndingOnClickedSquare.get().getVertexList();
+                List<BlackTile> steps = absoluteLongestPathEndingOnClickedSquare.get();
                 game.makeMove(game.getActiveTile().getPiece(), steps);
             }
         }
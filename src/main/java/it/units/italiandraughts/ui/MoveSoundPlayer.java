@@ -0,0 +1,33 @@
+package it.units.italiandraughts.ui;
+
+import it.units.italiandraughts.event.GameEvent;
+import it.units.italiandraughts.event.GameEventListener;
+import javafx.scene.media.Media;
+import javafx.scene.media.MediaPlayer;
+import javafx.util.Duration;
+
+import java.io.File;
+import java.net.URL;
+import java.util.Objects;
+
+/**
+ * Plays the sound of a piece being moved on every move of the game it listens to. Meant to be subscribed for
+ * asynchronous delivery, so that starting the player never delays a move.
+ */
+public class MoveSoundPlayer implements GameEventListener {
+
+    private final MediaPlayer mediaPlayer;
+
+    public MoveSoundPlayer() {
+        String path = "sounds" + File.separatorChar + "movePiece.mp3";
+        URL resource = Objects.requireNonNull(getClass().getResource(path));
+        mediaPlayer = new MediaPlayer(new Media(resource.toString()));
+    }
+
+    @Override
+    public void onGameEvent(GameEvent event) {
+        mediaPlayer.play();
+        mediaPlayer.seek(new Duration(0));
+    }
+
+}
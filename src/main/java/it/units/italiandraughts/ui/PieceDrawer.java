@@ -2,6 +2,7 @@ package it.units.italiandraughts.ui;
 
 
 import it.units.italiandraughts.logic.Piece;
+import it.units.italiandraughts.logic.PieceColor;
 import javafx.scene.paint.Color;
 import javafx.scene.shape.Ellipse;
 
@@ -9,6 +10,10 @@ import java.util.List;
 
 public class PieceDrawer {
 
+    private static String getHexColor(PieceColor pieceColor) {
+        return pieceColor == PieceColor.WHITE ? "#eeebd9" : "#423c39";
+    }
+
     public void drawPieceOnSquare(Piece piece, Square square) {
         List<Ellipse> ellipses;
         double translateFactor = piece.isMan() ? 0.07 : 0.06;
@@ -19,7 +24,7 @@ public class PieceDrawer {
 
         if (piece.isMan()) {
             Ellipse upperEllipse = createEllipse(squareSize);
-            upperEllipse.setFill(Color.valueOf(piece.getPieceColor().getHexColor()));
+            upperEllipse.setFill(Color.valueOf(getHexColor(piece.getPieceColor())));
             ellipses = List.of(baseEllipse, upperEllipse);
         } else {
             Ellipse upperEllipse = createEllipse(squareSize);
@@ -28,7 +33,7 @@ public class PieceDrawer {
             middleEllipse.setFill(Color.valueOf("#c6c6c6"));
             Ellipse upperEllipse2 = createEllipse(squareSize);
             upperEllipse2.setTranslateY(squareSize * -0.1);
-            upperEllipse2.setFill(Color.valueOf(piece.getPieceColor().getHexColor()));
+            upperEllipse2.setFill(Color.valueOf(getHexColor(piece.getPieceColor())));
             ellipses = List.of(baseEllipse, middleEllipse, upperEllipse, upperEllipse2);
         }
         square.getChildren().addAll(ellipses);
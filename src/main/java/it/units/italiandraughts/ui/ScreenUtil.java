@@ -0,0 +1,15 @@
+package it.units.italiandraughts.ui;
+
+import javafx.stage.Screen;
+
+public class ScreenUtil {
+
+    public static double getScreenWidth() {
+        return Screen.getPrimary().getBounds().getWidth();
+    }
+
+    public static double getScreenHeight() {
+        return Screen.getPrimary().getBounds().getHeight();
+    }
+
+}
@@ -22,7 +22,6 @@ public class Square extends StackPane {
         this.tile = tile;
         this.type = squareType;
         this.setStyle("-fx-background-color: " + squareType.getHex() + ";");
-        tile.setSquare(this);
         hasGreenCircle = false;
     }
 
@@ -0,0 +1,100 @@
+package it.units.italiandraughts.book;
+
+import it.units.italiandraughts.engine.Engine;
+import it.units.italiandraughts.engine.SearchResult;
+import it.units.italiandraughts.engine.TranspositionTable;
+import it.units.italiandraughts.logic.BitBoard;
+import it.units.italiandraughts.logic.Position;
+import it.units.italiandraughts.pdn.PdnGame;
+import it.units.italiandraughts.pdn.RandomGames;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Map;
+
+public class OpeningBookTest {
+
+    private static PdnGame randomGame(long seed, String result) {
+        return RandomGames.randomGame(Position.initial(), seed, 12, Map.of(), result);
+    }
+
+    private static Path build(Path directory, OpeningBookBuilder builder, PdnGame... games) throws IOException {
+        for (PdnGame game : games) {
+            builder.add(game);
+        }
+        Path path = directory.resolve("opening.book");
+        builder.write(path);
+        return path;
+    }
+
+    @Test
+    void everyPlayedMoveIsFound(@TempDir Path directory) throws IOException {
+        PdnGame[] games = new PdnGame[500];
+        for (int i = 0; i < games.length; i++) {
+            games[i] = randomGame(i, "*");
+        }
+
+        try (OpeningBook book = OpeningBook.open(build(directory, new OpeningBookBuilder(10, 1), games))) {
+            Assertions.assertEquals(games.length, book.getMoves(BitBoard.initial()).stream()
+                    .mapToInt(OpeningBook.BookMove::games).sum());
+            for (PdnGame game : games) {
+                BitBoard bitBoard = BitBoard.initial();
+                for (int ply = 0; ply < 10; ply++) {
+                    long move = game.getMove(ply);
+                    Assertions.assertTrue(book.getMoves(bitBoard).stream()
+                            .anyMatch(bookMove -> bookMove.move() == move));
+                    bitBoard.makeMove(move);
+                }
+                Assertions.assertFalse(book.contains(bitBoard));
+            }
+        }
+    }
+
+    @Test
+    void statisticsAreFromTheMoverPointOfView(@TempDir Path directory) throws IOException {
+        PdnGame game = randomGame(1, "2-0");
+        Path path = build(directory, new OpeningBookBuilder(2, 2), game, game, randomGame(1, "0-2"),
+                randomGame(1, "1-1"), randomGame(2, "2-0"));
+
+        try (OpeningBook book = OpeningBook.open(path)) {
+            List<OpeningBook.BookMove> whiteMoves = book.getMoves(BitBoard.initial());
+            Assertions.assertEquals(1, whiteMoves.size());
+            Assertions.assertEquals(new OpeningBook.BookMove(game.getMove(0), 4, 2, 1, 1), whiteMoves.get(0));
+            Assertions.assertEquals(0.625, whiteMoves.get(0).getScore());
+
+            BitBoard bitBoard = BitBoard.initial();
+            bitBoard.makeMove(game.getMove(0));
+            Assertions.assertEquals(List.of(new OpeningBook.BookMove(game.getMove(1), 4, 1, 1, 2)),
+                    book.getMoves(bitBoard));
+            Assertions.assertEquals(2, book.size());
+        }
+    }
+
+    @Test
+    void enginePlaysBookMoves(@TempDir Path directory) throws IOException {
+        PdnGame game = randomGame(3, "*");
+        Engine engine = new Engine(new TranspositionTable(1));
+
+        try (OpeningBook book = OpeningBook.open(build(directory, new OpeningBookBuilder(), game, game))) {
+            engine.setOpeningBook(book);
+            SearchResult result = engine.search(BitBoard.initial(), 20, 0);
+
+            Assertions.assertEquals(game.getMove(0), result.getBestMove());
+            Assertions.assertEquals(0, result.getNodes());
+        }
+    }
+
+    @Test
+    void notABook(@TempDir Path directory) throws IOException {
+        Path path = directory.resolve("broken.book");
+        Files.write(path, new byte[]{1, 2, 3, 4, 5, 6, 7, 8});
+
+        Assertions.assertThrows(IOException.class, () -> OpeningBook.open(path));
+    }
+
+}
@@ -0,0 +1,60 @@
+package it.units.italiandraughts.database;
+
+import it.units.italiandraughts.logic.Position;
+import it.units.italiandraughts.pdn.PdnGame;
+import it.units.italiandraughts.pdn.RandomGames;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.Map;
+
+public class GameDatabaseTest {
+
+    private static PdnGame randomGame(Position start, long seed) {
+        return RandomGames.randomGame(start, seed, 60, Map.of("Round", String.valueOf(seed)), "0-2");
+    }
+
+    @Test
+    void roundTrip(@TempDir Path directory) throws IOException {
+        Path base = directory.resolve("games");
+        PdnGame[] games = new PdnGame[50];
+        try (GameDatabaseWriter writer = new GameDatabaseWriter(base)) {
+            for (int i = 0; i < games.length; i++) {
+                games[i] = randomGame(i % 2 == 0 ? Position.initial() : Position.fromFen("B:W18,21,K30:B1,5,K9"), i);
+                Assertions.assertEquals(i, writer.append(games[i]));
+            }
+        }
+
+        try (GameDatabase database = GameDatabase.open(base)) {
+            Assertions.assertEquals(games.length, database.size());
+            for (int i = games.length - 1; i >= 0; i -= 7) {
+                PdnGame read = database.get(i);
+                Assertions.assertArrayEquals(games[i].getMoves(), read.getMoves());
+                Assertions.assertEquals(games[i].getStartPosition(), read.getStartPosition());
+                Assertions.assertEquals(String.valueOf(i), read.getTag("Round"));
+                Assertions.assertEquals("0-2", read.getResult());
+            }
+            Assertions.assertThrows(IndexOutOfBoundsException.class, () -> database.get(games.length));
+        }
+    }
+
+    @Test
+    void appendToExistingDatabase(@TempDir Path directory) throws IOException {
+        Path base = directory.resolve("games");
+        try (GameDatabaseWriter writer = new GameDatabaseWriter(base)) {
+            writer.append(randomGame(Position.initial(), 1));
+        }
+        try (GameDatabaseWriter writer = new GameDatabaseWriter(base)) {
+            Assertions.assertEquals(1, writer.append(randomGame(Position.initial(), 2)));
+        }
+
+        try (GameDatabase database = GameDatabase.open(base)) {
+            Assertions.assertEquals(2, database.size());
+            Assertions.assertArrayEquals(randomGame(Position.initial(), 2).getMoves(), database.get(1).getMoves());
+        }
+    }
+
+}
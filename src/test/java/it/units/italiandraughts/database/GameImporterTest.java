@@ -0,0 +1,74 @@
+package it.units.italiandraughts.database;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+public class GameImporterTest {
+
+    @Test
+    void importKeepsInputOrder(@TempDir Path directory) throws IOException {
+        Path pdnFile = directory.resolve("games.pdn");
+        StringBuilder pdn = new StringBuilder();
+        for (int i = 0; i < 200; i++) {
+            pdn.append("[Round \"").append(i).append("\"]\n");
+            // every tenth game has an illegal second move
+            pdn.append(i % 10 == 3 ? "1. 22-18 11-20 *\n\n" : "1. 22-18 11-14 2. 18x11 *\n\n");
+        }
+        Files.writeString(pdnFile, pdn);
+
+        GameImporter.ImportResult result;
+        try (GameDatabaseWriter writer = new GameDatabaseWriter(directory.resolve("games"))) {
+            result = new GameImporter(4).importPdn(pdnFile, writer);
+        }
+
+        Assertions.assertEquals(180, result.imported());
+        Assertions.assertEquals(20, result.rejected());
+        Assertions.assertEquals(20, result.errors().size());
+        try (GameDatabase database = GameDatabase.open(directory.resolve("games"))) {
+            Assertions.assertEquals(180, database.size());
+            int number = 0;
+            for (int i = 0; i < 200; i++) {
+                if (i % 10 != 3) {
+                    Assertions.assertEquals(String.valueOf(i), database.get(number++).getTag("Round"));
+                    Assertions.assertEquals(3, database.get(number - 1).getMoveCount());
+                }
+            }
+        }
+    }
+
+    @Test
+    void brokenNotationIsRejected(@TempDir Path directory) throws IOException {
+        Path pdnFile = directory.resolve("games.pdn");
+        StringBuilder pdn = new StringBuilder();
+        for (int i = 0; i < 30; i++) {
+            pdn.append(i % 3 == 1 ? "[Round unquoted]\n" : "[Round \"" + i + "\"]\n");
+            pdn.append(i % 3 == 2 ? "1. 22-18 ( 1. 21-17\n\n" : "1. 22-18 11-14 *\n\n");
+        }
+        pdn.append("[Round \"").append("x".repeat(5000)).append("\"]\n1. 22-18 *\n");
+        Files.writeString(pdnFile, pdn);
+
+        GameImporter.ImportResult result;
+        try (GameDatabaseWriter writer = new GameDatabaseWriter(directory.resolve("games"))) {
+            result = new GameImporter(3).importPdn(pdnFile, writer);
+        }
+
+        Assertions.assertEquals(10, result.imported());
+        Assertions.assertEquals(21, result.rejected());
+        try (GameDatabase database = GameDatabase.open(directory.resolve("games"))) {
+            for (int i = 0; i < 10; i++) {
+                Assertions.assertEquals(String.valueOf(3 * i), database.get(i).getTag("Round"));
+            }
+        }
+    }
+
+    @Test
+    void invalidThreadCount() {
+        Assertions.assertThrows(IllegalArgumentException.class, () -> new GameImporter(0));
+    }
+
+}
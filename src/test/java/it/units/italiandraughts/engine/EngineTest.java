@@ -0,0 +1,87 @@
+package it.units.italiandraughts.engine;
+
+import it.units.italiandraughts.logic.BitBoard;
+import it.units.italiandraughts.logic.MoveGenerator;
+import it.units.italiandraughts.logic.MoveList;
+import it.units.italiandraughts.logic.PieceType;
+import it.units.italiandraughts.logic.PieceColor;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+public class EngineTest {
+
+    private final Engine engine = new Engine(new TranspositionTable(1));
+
+    @Test
+    void initialPositionReturnsLegalMove() {
+        BitBoard bitBoard = BitBoard.initial();
+        MoveList moves = new MoveList();
+        new MoveGenerator().generate(bitBoard, moves);
+
+        SearchResult result = engine.search(bitBoard, 6, 0);
+
+        Assertions.assertEquals(6, result.getDepth());
+        int bestIndex = moves.indexOf(result.getPrincipalVariation()[0]);
+        Assertions.assertTrue(bestIndex >= 0);
+        Assertions.assertArrayEquals(moves.getPath(bestIndex), result.getBestPath());
+        Assertions.assertEquals(BitBoard.initial(), bitBoard);
+    }
+
+    @Test
+    void noLegalMovesIsLost() {
+        BitBoard bitBoard = new BitBoard();
+        bitBoard.placePiece(BitBoard.squareIndex(0, 0), PieceColor.BLACK, PieceType.MAN);
+
+        SearchResult result = engine.search(bitBoard, 4, 0);
+
+        Assertions.assertFalse(result.hasMove());
+        Assertions.assertEquals(-Engine.WIN_SCORE, result.getScore());
+    }
+
+    @Test
+    void singleLegalMoveIsNotSearched() {
+        BitBoard bitBoard = new BitBoard();
+        bitBoard.placePiece(BitBoard.squareIndex(4, 4), PieceColor.WHITE, PieceType.MAN);
+        bitBoard.placePiece(BitBoard.squareIndex(3, 3), PieceColor.BLACK, PieceType.MAN);
+
+        SearchResult result = engine.search(bitBoard, 10, 0);
+
+        Assertions.assertArrayEquals(new int[]{BitBoard.squareIndex(4, 4), BitBoard.squareIndex(2, 2)},
+                result.getBestPath());
+    }
+
+    @Test
+    void findsForcedWin() {
+        BitBoard bitBoard = new BitBoard();
+        bitBoard.placePiece(BitBoard.squareIndex(4, 2), PieceColor.WHITE, PieceType.MAN);
+        bitBoard.placePiece(BitBoard.squareIndex(1, 7), PieceColor.WHITE, PieceType.MAN);
+        bitBoard.placePiece(BitBoard.squareIndex(2, 4), PieceColor.BLACK, PieceType.MAN);
+
+        SearchResult result = engine.search(bitBoard, 5, 0);
+
+        Assertions.assertArrayEquals(new int[]{BitBoard.squareIndex(1, 7), BitBoard.squareIndex(2, 6)},
+                result.getBestPath());
+        Assertions.assertEquals(Engine.WIN_SCORE - 3, result.getScore());
+    }
+
+    @Test
+    void timeLimitIsRespected() {
+        SearchResult result = engine.search(BitBoard.initial(), Engine.MAX_PLY, 100);
+
+        Assertions.assertTrue(result.hasMove());
+        Assertions.assertTrue(result.getElapsedMillis() < 1000);
+    }
+
+    @Test
+    void longTablebaseWinsAreStoredRelativeToTheNode() {
+        // a tablebase win in 200 plies probed at ply 40, read back at ply 10
+        int score = Engine.WIN_SCORE - 40 - 200;
+        int stored = Engine.toTableScore(score, 40);
+
+        Assertions.assertTrue(score > Engine.DECISIVE_SCORE);
+        Assertions.assertEquals(Engine.WIN_SCORE - 200, stored);
+        Assertions.assertEquals(Engine.WIN_SCORE - 10 - 200, Engine.fromTableScore(stored, 10));
+        Assertions.assertEquals(-score, Engine.fromTableScore(Engine.toTableScore(-score, 40), 40));
+    }
+
+}
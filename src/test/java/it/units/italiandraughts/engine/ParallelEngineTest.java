@@ -0,0 +1,51 @@
+package it.units.italiandraughts.engine;
+
+import it.units.italiandraughts.logic.BitBoard;
+import it.units.italiandraughts.logic.PieceType;
+import it.units.italiandraughts.logic.PieceColor;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+public class ParallelEngineTest {
+
+    @Test
+    void findsForcedWinWithHelpers() {
+        BitBoard bitBoard = new BitBoard();
+        bitBoard.placePiece(BitBoard.squareIndex(4, 2), PieceColor.WHITE, PieceType.MAN);
+        bitBoard.placePiece(BitBoard.squareIndex(1, 7), PieceColor.WHITE, PieceType.MAN);
+        bitBoard.placePiece(BitBoard.squareIndex(2, 4), PieceColor.BLACK, PieceType.MAN);
+
+        try (ParallelEngine engine = new ParallelEngine(4, 1)) {
+            SearchResult result = engine.search(bitBoard, 5, 0);
+
+            Assertions.assertArrayEquals(new int[]{BitBoard.squareIndex(1, 7), BitBoard.squareIndex(2, 6)},
+                    result.getBestPath());
+            Assertions.assertEquals(Engine.WIN_SCORE - 3, result.getScore());
+        }
+    }
+
+    @Test
+    void positionIsNotModified() {
+        BitBoard bitBoard = BitBoard.initial();
+
+        try (ParallelEngine engine = new ParallelEngine(3, 1)) {
+            SearchResult result = engine.search(bitBoard, 8, 0);
+
+            Assertions.assertTrue(result.hasMove());
+            Assertions.assertEquals(8, result.getDepth());
+        }
+        Assertions.assertEquals(BitBoard.initial(), bitBoard);
+    }
+
+    @Test
+    void searchAgesTheTableOnce() {
+        try (ParallelEngine engine = new ParallelEngine(8, 1)) {
+            int generation = engine.getTranspositionTable().getGeneration();
+
+            engine.search(BitBoard.initial(), 4, 0);
+
+            Assertions.assertEquals(generation + 1, engine.getTranspositionTable().getGeneration());
+        }
+    }
+
+}
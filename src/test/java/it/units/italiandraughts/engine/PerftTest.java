@@ -0,0 +1,45 @@
+package it.units.italiandraughts.engine;
+
+import it.units.italiandraughts.logic.BitBoard;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.util.Map;
+import java.util.concurrent.ForkJoinPool;
+
+public class PerftTest {
+
+    private static final long[] INITIAL_POSITION_NODES = {1, 7, 49, 302, 1469, 7361, 36473, 177532};
+    private static final String MIDDLEGAME = "B:W17,18,21,K22,25,26,27,29,30,31:B1,2,3,5,6,K10,11,13,14";
+
+    @Test
+    void initialPosition() {
+        Perft perft = new Perft();
+        for (int depth = 0; depth < INITIAL_POSITION_NODES.length; depth++) {
+            Assertions.assertEquals(INITIAL_POSITION_NODES[depth], perft.count(BitBoard.initial(), depth));
+        }
+    }
+
+    @Test
+    void hashedPerftMatchesPlainPerft() {
+        BitBoard position = BitBoard.fromFen(MIDDLEGAME);
+
+        long expected = new Perft().count(position, 6);
+        long actual = new Perft(new PerftCache(1)).count(position, 6);
+
+        Assertions.assertEquals(expected, actual);
+    }
+
+    @Test
+    void parallelDivideMatchesCount() {
+        BitBoard position = BitBoard.fromFen(MIDDLEGAME);
+        ForkJoinPool pool = new ForkJoinPool(2);
+
+        Map<String, Long> division = Perft.divide(position, 5, pool, new PerftCache(1));
+        pool.shutdown();
+
+        Assertions.assertEquals(new Perft().count(position, 5),
+                division.values().stream().mapToLong(Long::longValue).sum());
+    }
+
+}
@@ -0,0 +1,106 @@
+package it.units.italiandraughts.engine;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+public class TranspositionTableTest {
+
+    @Test
+    void capacityIsPowerOfTwo() {
+        TranspositionTable table = new TranspositionTable(3);
+
+        Assertions.assertEquals(Integer.highestOneBit(table.getCapacity()), table.getCapacity());
+        Assertions.assertTrue(table.getCapacity() * 16L <= 3 * 1024 * 1024);
+    }
+
+    @Test
+    void storeAndProbe() {
+        TranspositionTable table = new TranspositionTable(1);
+
+        table.store(0x123456789abcdefL, 7, Bound.LOWER, -321, 0x4321);
+        long data = table.probe(0x123456789abcdefL);
+
+        Assertions.assertEquals(7, TranspositionTable.getDepth(data));
+        Assertions.assertEquals(Bound.LOWER, TranspositionTable.getBound(data));
+        Assertions.assertEquals(-321, TranspositionTable.getScore(data));
+        Assertions.assertEquals(0x4321, TranspositionTable.getMove(data));
+    }
+
+    @Test
+    void probeMiss() {
+        TranspositionTable table = new TranspositionTable(1);
+
+        table.store(1, 0, Bound.EXACT, 0, 0);
+
+        Assertions.assertNotEquals(0L, table.probe(1));
+        Assertions.assertEquals(0L, table.probe(2));
+        Assertions.assertEquals(0.5, table.getHitRate(), 1e-9);
+    }
+
+    @Test
+    void deeperEntryIsKept() {
+        TranspositionTable table = new TranspositionTable(1);
+        long bucketSpan = table.getCapacity() / 2;
+        long deep = 5;
+        long shallow = deep + bucketSpan;
+        long other = deep + 2 * bucketSpan;
+
+        table.store(deep, 10, Bound.EXACT, 1, 1);
+        table.store(shallow, 2, Bound.EXACT, 2, 2);
+        table.store(other, 3, Bound.EXACT, 3, 3);
+
+        Assertions.assertEquals(10, TranspositionTable.getDepth(table.probe(deep)));
+        Assertions.assertEquals(0L, table.probe(shallow));
+        Assertions.assertEquals(3, TranspositionTable.getDepth(table.probe(other)));
+        Assertions.assertTrue(table.getCollisionRate() > 0);
+    }
+
+    @Test
+    void olderGenerationIsReplaced() {
+        TranspositionTable table = new TranspositionTable(1);
+        long bucketSpan = table.getCapacity() / 2;
+
+        table.store(5, 10, Bound.EXACT, 1, 1);
+        table.newSearch();
+        table.store(5 + bucketSpan, 1, Bound.EXACT, 2, 2);
+
+        Assertions.assertEquals(0L, table.probe(5));
+        Assertions.assertEquals(1, TranspositionTable.getDepth(table.probe(5 + bucketSpan)));
+    }
+
+    @Test
+    void concurrentStoresStayConsistent() throws InterruptedException {
+        TranspositionTable table = new TranspositionTable(1);
+        AtomicInteger corruptEntries = new AtomicInteger();
+        Thread[] threads = new Thread[4];
+        for (int t = 0; t < threads.length; t++) {
+            final int offset = t;
+            threads[t] = new Thread(() -> {
+                for (int i = 0; i < 100_000; i++) {
+                    long key = (long) i * 0x9e3779b97f4a7c15L;
+                    table.store(key, offset, Bound.EXACT, i & 0x7fff, (int) key);
+                    long data = table.probe(key);
+                    if (data != 0 && TranspositionTable.getMove(data) != (int) key) {
+                        corruptEntries.incrementAndGet();
+                    }
+                }
+            });
+            threads[t].start();
+        }
+        for (Thread thread : threads) {
+            thread.join();
+        }
+        Assertions.assertEquals(0, corruptEntries.get());
+    }
+
+    @Test
+    void hugeTablesAreClamped() {
+        Assertions.assertEquals(TranspositionTable.MAX_BUCKETS, TranspositionTable.getBucketCount(16384));
+        Assertions.assertEquals(TranspositionTable.MAX_BUCKETS, TranspositionTable.getBucketCount(Integer.MAX_VALUE));
+        Assertions.assertTrue((long) TranspositionTable.MAX_BUCKETS * 4 <= Integer.MAX_VALUE);
+        Assertions.assertEquals(1 << 15, TranspositionTable.getBucketCount(1));
+    }
+
+}
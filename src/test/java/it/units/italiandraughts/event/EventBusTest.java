@@ -0,0 +1,153 @@
+package it.units.italiandraughts.event;
+
+import it.units.italiandraughts.logic.PieceColor;
+import it.units.italiandraughts.logic.Player;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+
+public class EventBusTest {
+
+    private static final Player WHITE = new Player("white", PieceColor.WHITE);
+    private static final Player BLACK = new Player("black", PieceColor.BLACK);
+
+    private static GameEvent switchTo(Player player) {
+        return new SwitchActivePlayerEvent(EventBusTest.class, player, player == WHITE ? BLACK : WHITE);
+    }
+
+    @Test
+    void synchronousDeliveryInSubscriptionOrder() {
+        EventBus eventBus = new EventBus();
+        List<String> calls = new ArrayList<>();
+        eventBus.addListeners(EventType.SWITCH_ACTIVE_PLAYER,
+                event -> calls.add("first"), event -> calls.add("second"));
+        eventBus.addListeners(EventType.GAME_OVER, event -> calls.add("game over"));
+
+        eventBus.notifyListeners(switchTo(BLACK));
+
+        Assertions.assertEquals(List.of("first", "second"), calls);
+    }
+
+    @Test
+    void noListeners() {
+        new EventBus().notifyListeners(new GameOverEvent(EventBusTest.class, WHITE));
+    }
+
+    @Test
+    void unsubscribe() {
+        EventBus eventBus = new EventBus();
+        List<GameEvent> events = new ArrayList<>();
+        GameEventListener listener = events::add;
+        eventBus.addListeners(EventType.GAME_OVER, listener);
+        eventBus.unsubscribe(EventType.GAME_OVER, listener);
+
+        eventBus.notifyListeners(new GameOverEvent(EventBusTest.class, WHITE));
+
+        Assertions.assertTrue(events.isEmpty());
+    }
+
+    @Test
+    void uiDeliveryCoalescesBursts() {
+        List<Runnable> uiTasks = new ArrayList<>();
+        EventBus eventBus = new EventBus(uiTasks::add);
+        List<GameEvent> events = new ArrayList<>();
+        eventBus.subscribe(EventType.SWITCH_ACTIVE_PLAYER, events::add, EventBus.Delivery.UI);
+        GameEvent last = switchTo(WHITE);
+
+        eventBus.notifyListeners(switchTo(BLACK));
+        eventBus.notifyListeners(switchTo(WHITE));
+        eventBus.notifyListeners(last);
+        Assertions.assertEquals(1, uiTasks.size());
+        uiTasks.get(0).run();
+
+        Assertions.assertEquals(List.of(last), events);
+    }
+
+    @Test
+    void slowAsynchronousListenerDoesNotBlock() throws InterruptedException {
+        CountDownLatch release = new CountDownLatch(1);
+        CountDownLatch delivered = new CountDownLatch(3);
+        List<GameEvent> events = new ArrayList<>();
+        try (EventBus eventBus = new EventBus()) {
+            eventBus.subscribe(EventType.SWITCH_ACTIVE_PLAYER, event -> {
+                try {
+                    release.await();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+                synchronized (events) {
+                    events.add(event);
+                }
+                delivered.countDown();
+            }, EventBus.Delivery.ASYNCHRONOUS);
+            List<GameEvent> published = List.of(switchTo(BLACK), switchTo(WHITE), switchTo(BLACK));
+
+            published.forEach(eventBus::notifyListeners);
+            release.countDown();
+
+            Assertions.assertTrue(delivered.await(10, TimeUnit.SECONDS));
+            synchronized (events) {
+                Assertions.assertEquals(published, events);
+            }
+        }
+    }
+
+    @Test
+    void closedBusDropsEvents() {
+        List<GameEvent> events = new ArrayList<>();
+        EventBus eventBus = new EventBus();
+        eventBus.addListeners(EventType.GAME_OVER, events::add);
+        eventBus.subscribe(EventType.GAME_OVER, events::add, EventBus.Delivery.ASYNCHRONOUS);
+
+        eventBus.close();
+        eventBus.notifyListeners(new GameOverEvent(EventBusTest.class, WHITE));
+
+        Assertions.assertTrue(events.isEmpty());
+        Assertions.assertThrows(IllegalStateException.class,
+                () -> eventBus.subscribe(EventType.GAME_OVER, events::add, EventBus.Delivery.ASYNCHRONOUS));
+    }
+
+    @Test
+    void rejectedDeliveryIsRescheduledByTheNextEvent() {
+        List<Runnable> uiTasks = new ArrayList<>();
+        EventBus eventBus = new EventBus(task -> {
+            if (uiTasks.isEmpty()) {
+                uiTasks.add(null);
+                throw new RejectedExecutionException();
+            }
+            uiTasks.add(task);
+        });
+        List<GameEvent> events = new ArrayList<>();
+        eventBus.subscribe(EventType.SWITCH_ACTIVE_PLAYER, events::add, EventBus.Delivery.UI);
+        GameEvent last = switchTo(WHITE);
+
+        eventBus.notifyListeners(switchTo(BLACK));
+        eventBus.notifyListeners(last);
+        Assertions.assertEquals(2, uiTasks.size());
+        uiTasks.get(1).run();
+
+        Assertions.assertEquals(List.of(last), events);
+    }
+
+    @Test
+    void failingListenerDoesNotStopDelivery() throws InterruptedException {
+        CountDownLatch delivered = new CountDownLatch(2);
+        try (EventBus eventBus = new EventBus()) {
+            eventBus.subscribe(EventType.SWITCH_ACTIVE_PLAYER, event -> {
+                delivered.countDown();
+                throw new IllegalStateException("Listener failure");
+            }, EventBus.Delivery.ASYNCHRONOUS);
+
+            eventBus.notifyListeners(switchTo(BLACK));
+            eventBus.notifyListeners(switchTo(WHITE));
+
+            Assertions.assertTrue(delivered.await(10, TimeUnit.SECONDS));
+        }
+    }
+
+}
@@ -0,0 +1,87 @@
+package it.units.italiandraughts.logic;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+public class BitBoardTest {
+
+    @Test
+    void squareIndexCorners() {
+        Assertions.assertEquals(0, BitBoard.squareIndex(0, 0));
+        Assertions.assertEquals(4, BitBoard.squareIndex(1, 1));
+        Assertions.assertEquals(31, BitBoard.squareIndex(7, 7));
+    }
+
+    @Test
+    void squareIndexRoundTrip() {
+        for (int square = 0; square < BitBoard.SQUARES; square++) {
+            Assertions.assertEquals(square, BitBoard.squareIndex(BitBoard.getX(square), BitBoard.getY(square)));
+        }
+    }
+
+    @Test
+    void squareIndexOnWhiteTile() {
+        Assertions.assertThrows(IllegalArgumentException.class, () -> BitBoard.squareIndex(1, 0));
+    }
+
+    @Test
+    void initialPosition() {
+        BitBoard bitBoard = BitBoard.initial();
+
+        Assertions.assertEquals(0x00000fff, bitBoard.getBlackMen());
+        Assertions.assertEquals(0xfff00000, bitBoard.getWhiteMen());
+        Assertions.assertEquals(0, bitBoard.getWhiteKings() | bitBoard.getBlackKings());
+        Assertions.assertTrue(bitBoard.isWhiteToMove());
+    }
+
+    @Test
+    void fromBoard() {
+        Board board = new Board();
+
+        BitBoard bitBoard = BitBoard.fromBoard(board, PieceColor.BLACK);
+
+        Assertions.assertEquals(1, bitBoard.getBlackMen());
+        Assertions.assertEquals(1 << BitBoard.squareIndex(3, 3), bitBoard.getWhiteMen());
+        Assertions.assertFalse(bitBoard.isWhiteToMove());
+    }
+
+    @Test
+    void toBoardRoundTrip() {
+        BitBoard bitBoard = BitBoard.initial();
+        bitBoard.removePiece(BitBoard.squareIndex(2, 2));
+        bitBoard.placePiece(BitBoard.squareIndex(3, 3), PieceColor.BLACK, PieceType.KING);
+        bitBoard.removePiece(BitBoard.squareIndex(6, 6));
+        bitBoard.placePiece(BitBoard.squareIndex(4, 4), PieceColor.WHITE, PieceType.KING);
+
+        Board board = bitBoard.toBoard();
+
+        Assertions.assertEquals(PieceType.KING, BlackTile.asBlackTile(board.getTiles()[3][3]).getPiece().getPieceType());
+        Assertions.assertEquals(bitBoard, BitBoard.fromBoard(board, PieceColor.WHITE));
+    }
+
+    @Test
+    void placePieceOnFullSquare() {
+        BitBoard bitBoard = BitBoard.initial();
+
+        Assertions.assertThrows(IllegalArgumentException.class,
+                () -> bitBoard.placePiece(0, PieceColor.WHITE, PieceType.MAN));
+    }
+
+    @Test
+    void fenRoundTrip() {
+        BitBoard bitBoard = BitBoard.fromFen("B:W18,K22,23-25:BK1,2,3");
+
+        Assertions.assertFalse(bitBoard.isWhiteToMove());
+        Assertions.assertEquals(PieceType.KING, bitBoard.getPieceType(21));
+        Assertions.assertEquals(PieceColor.BLACK, bitBoard.getPieceColor(0));
+        Assertions.assertEquals("B:W18,K22,23,24,25:BK1,2,3", bitBoard.toFen());
+        Assertions.assertEquals(bitBoard, BitBoard.fromFen(bitBoard.toFen()));
+    }
+
+    @Test
+    void invalidFen() {
+        Assertions.assertThrows(IllegalArgumentException.class, () -> BitBoard.fromFen("X:W1:B2"));
+        Assertions.assertThrows(IllegalArgumentException.class, () -> BitBoard.fromFen("W:W33:B2"));
+    }
+
+}
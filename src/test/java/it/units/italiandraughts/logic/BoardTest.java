@@ -1,6 +1,5 @@
 package it.units.italiandraughts.logic;
 
-import it.units.italiandraughts.ui.PieceColor;
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -34,7 +33,7 @@ public class BoardTest {
         Piece piece = new WhitePiece(PieceType.MAN, BlackTile.asBlackTile(board.getTiles()[5][7]));
         BlackTile source = BlackTile.asBlackTile(board.getTiles()[5][7]);
         BlackTile destination = BlackTile.asBlackTile(board.getTiles()[4][6]);
-        Move move = new Move(piece, source, destination, List.of(source, destination));
+        Move move = new Move(board, piece, source, destination, List.of(source, destination));
         move.make();
 
         Assertions.assertEquals(expectedBoard, board);
@@ -0,0 +1,63 @@
+package it.units.italiandraughts.logic;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.util.SplittableRandom;
+
+public class EvaluationTest {
+
+    @Test
+    void initialPositionIsBalanced() {
+        Evaluation.Breakdown breakdown = Evaluation.getBreakdown(BitBoard.initial());
+
+        Assertions.assertEquals(0, breakdown.material());
+        Assertions.assertEquals(0, breakdown.advancement());
+        Assertions.assertEquals(0, breakdown.backRow());
+        Assertions.assertEquals(Evaluation.TEMPO_BONUS, breakdown.tempo());
+        Assertions.assertEquals(breakdown.getTotal(), Evaluation.evaluateForWhite(BitBoard.initial()));
+        Assertions.assertEquals(0.5, Evaluation.getWhiteShare(0));
+    }
+
+    @Test
+    void incrementalScoreMatchesAFullEvaluation() {
+        MoveGenerator moveGenerator = new MoveGenerator();
+        MoveList moves = new MoveList();
+        SplittableRandom random = new SplittableRandom(7);
+        for (int game = 0; game < 20; game++) {
+            BitBoard bitBoard = BitBoard.initial();
+            long[] played = new long[100];
+            int[] capturedKings = new int[played.length];
+            int ply = 0;
+            while (ply < played.length && moveGenerator.generate(bitBoard, moves) > 0) {
+                played[ply] = moves.getMove(random.nextInt(moves.size()));
+                capturedKings[ply] = bitBoard.makeMove(played[ply++]);
+                Assertions.assertEquals(Evaluation.getBreakdown(bitBoard).getTotal(),
+                        Evaluation.evaluateForWhite(bitBoard), bitBoard.toFen());
+            }
+            while (ply > 0) {
+                ply--;
+                bitBoard.undoMove(played[ply], capturedKings[ply]);
+            }
+            Assertions.assertEquals(BitBoard.initial().getPieceSquareScore(), bitBoard.getPieceSquareScore());
+        }
+    }
+
+    @Test
+    void placingAndRemovingPiecesKeepsTheScore() {
+        BitBoard bitBoard = BitBoard.fromFen("W:W18,K22:B5,K30");
+        bitBoard.placePiece(0, PieceColor.BLACK, PieceType.MAN);
+        bitBoard.removePiece(21);
+
+        Assertions.assertEquals(BitBoard.fromFen("W:W18:B1,5,K30").getPieceSquareScore(),
+                bitBoard.getPieceSquareScore());
+    }
+
+    @Test
+    void advancedMenAndKingsScoreMore() {
+        Assertions.assertTrue(Evaluation.evaluate(BitBoard.fromFen("W:W9:B29")) > 0);
+        Assertions.assertTrue(Evaluation.evaluate(BitBoard.fromFen("B:WK9:B29")) < 0);
+        Assertions.assertTrue(Evaluation.getWhiteShare(300) > 0.8);
+    }
+
+}
@@ -0,0 +1,140 @@
+package it.units.italiandraughts.logic;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.SplittableRandom;
+
+public class GameHistoryTest {
+
+    private final MoveGenerator moveGenerator = new MoveGenerator();
+    private final MoveList moves = new MoveList();
+
+    private List<Position> playRandomGame(GameHistory history, int plies, long seed) {
+        SplittableRandom random = new SplittableRandom(seed);
+        List<Position> positions = new ArrayList<>(List.of(history.getPosition()));
+        for (int ply = 0; ply < plies; ply++) {
+            if (moveGenerator.generate(history.getPosition().toBitBoard(), moves) == 0) {
+                break;
+            }
+            history.play(moves.getMove(random.nextInt(moves.size())));
+            positions.add(history.getPosition());
+        }
+        return positions;
+    }
+
+    @Test
+    void undoAndRedo() {
+        GameHistory history = new GameHistory(Position.initial());
+        List<Position> positions = playRandomGame(history, 10, 1);
+
+        history.undo();
+        history.undo();
+
+        Assertions.assertEquals(positions.get(positions.size() - 3), history.getPosition());
+        Assertions.assertTrue(history.canRedo());
+        history.redo();
+        history.redo();
+        Assertions.assertEquals(positions.get(positions.size() - 1), history.getPosition());
+        Assertions.assertFalse(history.canRedo());
+    }
+
+    @Test
+    void seekAnyPly() {
+        GameHistory history = new GameHistory(Position.initial());
+        List<Position> positions = playRandomGame(history, 60, 2);
+        SplittableRandom random = new SplittableRandom(3);
+
+        for (int i = 0; i < 100; i++) {
+            int ply = random.nextInt(positions.size());
+            history.seek(ply);
+            Assertions.assertEquals(positions.get(ply), history.getPosition());
+            Assertions.assertEquals(ply, history.getPly());
+        }
+        Assertions.assertEquals(positions.size() - 1, history.size());
+    }
+
+    @Test
+    void positionAtDoesNotMoveTheCursor() {
+        GameHistory history = new GameHistory(Position.initial());
+        List<Position> positions = playRandomGame(history, 40, 4);
+        history.seek(5);
+
+        Assertions.assertEquals(positions.get(37), history.getPositionAt(37));
+        Assertions.assertEquals(positions.get(5), history.getPosition());
+    }
+
+    @Test
+    void playingTheNextMoveKeepsTheLine() {
+        GameHistory history = new GameHistory(Position.initial());
+        playRandomGame(history, 10, 5);
+        history.seek(4);
+
+        history.play(history.getMove(4));
+
+        Assertions.assertEquals(10, history.size());
+        Assertions.assertTrue(history.getVariations().isEmpty());
+    }
+
+    @Test
+    void branchingKeepsAVariation() {
+        GameHistory history = new GameHistory(Position.initial());
+        List<Position> mainLine = playRandomGame(history, 40, 6);
+        history.seek(20);
+        moveGenerator.generate(history.getPosition().toBitBoard(), moves);
+        long other = moves.getMove(0) == history.getMove(20) ? moves.getMove(1) : moves.getMove(0);
+
+        history.play(other);
+
+        Assertions.assertEquals(21, history.size());
+        Assertions.assertEquals(1, history.getVariations().size());
+        GameHistory.Variation variation = history.getVariations().get(0);
+        Assertions.assertEquals(20, variation.getPly());
+
+        history.enterVariation(variation);
+
+        Assertions.assertEquals(40, history.size());
+        Assertions.assertEquals(mainLine.get(20), history.getPosition());
+        history.seek(40);
+        Assertions.assertEquals(mainLine.get(40), history.getPosition());
+        Assertions.assertEquals(other, history.getVariations().get(0).getMoves()[0]);
+    }
+
+    @Test
+    void enteringAnOlderVariationAfterNestedBranches() {
+        GameHistory history = new GameHistory(Position.initial());
+        List<Position> mainLine = playRandomGame(history, 10, 7);
+        history.seek(5);
+        moveGenerator.generate(history.getPosition().toBitBoard(), moves);
+        history.play(moves.getMove(0) == history.getMove(5) ? moves.getMove(1) : moves.getMove(0));
+        history.seek(2);
+        moveGenerator.generate(history.getPosition().toBitBoard(), moves);
+        history.play(moves.getMove(0) == history.getMove(2) ? moves.getMove(1) : moves.getMove(0));
+
+        Assertions.assertEquals(3, history.size());
+        Assertions.assertEquals(1, history.getVariations().size());
+        GameHistory.Variation replaced = history.getVariations().get(0);
+        Assertions.assertEquals(2, replaced.getPly());
+        Assertions.assertEquals(1, replaced.getVariations().size());
+        GameHistory.Variation older = replaced.getVariations().get(0);
+        Assertions.assertThrows(IllegalArgumentException.class, () -> history.enterVariation(older));
+
+        history.enterVariation(replaced);
+        history.enterVariation(older);
+
+        Assertions.assertEquals(10, history.size());
+        history.seek(5);
+        Assertions.assertEquals(mainLine.get(5), history.getPosition());
+        history.seek(10);
+        Assertions.assertEquals(mainLine.get(10), history.getPosition());
+        Assertions.assertEquals(2, history.getVariations().size());
+    }
+
+    @Test
+    void undoAtStart() {
+        Assertions.assertThrows(IllegalStateException.class, () -> new GameHistory(Position.initial()).undo());
+    }
+
+}
@@ -1,12 +1,12 @@
 package it.units.italiandraughts.logic;
 
-import it.units.italiandraughts.ui.PieceColor;
+import it.units.italiandraughts.event.EventType;
 import org.junit.jupiter.api.Test;
-import org.junit.jupiter.api.extension.ExtendWith;
 import org.testfx.assertions.api.Assertions;
-import org.testfx.framework.junit5.ApplicationExtension;
 
-@ExtendWith(ApplicationExtension.class)
+import java.util.ArrayList;
+import java.util.List;
+
 public class GameTest {
 
     @Test
@@ -18,4 +18,30 @@ public class GameTest {
         Assertions.assertThat(activePlayer.getPieceColor()).isEqualTo(PieceColor.WHITE);
     }
 
+    @Test
+    void makeMoveNotifiesListeners() {
+        Game game = new Game(new Board(), new Player("", PieceColor.WHITE), new Player("", PieceColor.BLACK));
+        List<EventType> events = new ArrayList<>();
+        game.addListeners(EventType.MOVE, event -> events.add(event.getEventType()));
+        game.addListeners(EventType.SWITCH_ACTIVE_PLAYER, event -> events.add(event.getEventType()));
+        List<BlackTile> steps = game.getAbsoluteLongestPaths().get(0);
+
+        game.makeMove(steps.get(0).getPiece(), steps);
+
+        Assertions.assertThat(events).isEqualTo(List.of(EventType.MOVE, EventType.SWITCH_ACTIVE_PLAYER));
+        Assertions.assertThat(game.getActivePlayer().getPieceColor()).isEqualTo(PieceColor.BLACK);
+    }
+
+    @Test
+    void legalMovesAreCachedUnderThePositionKey() {
+        Game game = new Game(new Board(), new Player("", PieceColor.WHITE), new Player("", PieceColor.BLACK));
+        List<BlackTile> steps = game.getAbsoluteLongestPaths().get(0);
+        game.makeMove(steps.get(0).getPiece(), steps);
+
+        LegalMovesCache cache = game.getLegalMovesCache();
+
+        Assertions.assertThat(cache.size()).isEqualTo(2);
+        Assertions.assertThat(cache.get(game.getPosition()) != null).isEqualTo(true);
+    }
+
 }
@@ -0,0 +1,57 @@
+package it.units.italiandraughts.logic;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+public class LegalMovesCacheTest {
+
+    private static final Position FIRST = Position.fromFen("W:W21:B1");
+    private static final Position SECOND = Position.fromFen("W:W22:B1");
+    private static final Position THIRD = Position.fromFen("B:W21:B1");
+
+    @Test
+    void countsHitsAndMisses() {
+        LegalMovesCache cache = new LegalMovesCache(4);
+        cache.put(FIRST, new long[0]);
+
+        Assertions.assertNotNull(cache.get(FIRST));
+        Assertions.assertNull(cache.get(SECOND));
+        Assertions.assertEquals(1, cache.getHits());
+        Assertions.assertEquals(1, cache.getMisses());
+    }
+
+    @Test
+    void evictsLeastRecentlyUsed() {
+        LegalMovesCache cache = new LegalMovesCache(2);
+        cache.put(FIRST, new long[0]);
+        cache.put(SECOND, new long[0]);
+        cache.get(FIRST);
+
+        cache.put(THIRD, new long[0]);
+
+        Assertions.assertEquals(2, cache.size());
+        Assertions.assertNotNull(cache.get(FIRST));
+        Assertions.assertNull(cache.get(SECOND));
+        Assertions.assertNotNull(cache.get(THIRD));
+    }
+
+    @Test
+    void positionIsOnlyBuiltToConfirmAKeyMatch() {
+        LegalMovesCache cache = new LegalMovesCache(4);
+        cache.put(FIRST, new long[0]);
+
+        Assertions.assertNull(cache.get(SECOND.getZobristKey(), () -> {
+            throw new AssertionError("Position built for an unknown key");
+        }));
+        Assertions.assertNull(cache.get(FIRST.getZobristKey(), () -> SECOND));
+        Assertions.assertNotNull(cache.get(FIRST.getZobristKey(), () -> FIRST));
+        Assertions.assertEquals(1, cache.getHits());
+        Assertions.assertEquals(2, cache.getMisses());
+    }
+
+    @Test
+    void invalidCapacity() {
+        Assertions.assertThrows(IllegalArgumentException.class, () -> new LegalMovesCache(0));
+    }
+
+}
@@ -0,0 +1,46 @@
+package it.units.italiandraughts.logic;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.SplittableRandom;
+
+public class MovabilityTrackerTest {
+
+    @Test
+    void blockedPiecesAreNotMovable() {
+        Board board = BitBoard.fromFen("W:W29:B22,25,26").toBoard();
+
+        MovabilityTracker movabilityTracker = new MovabilityTracker(board);
+
+        Assertions.assertEquals(0, movabilityTracker.getMovableCount(PieceColor.WHITE));
+        Assertions.assertEquals(2, movabilityTracker.getMovableCount(PieceColor.BLACK));
+    }
+
+    @Test
+    void incrementalUpdatesMatchFullScan() {
+        BitBoard bitBoard = BitBoard.initial();
+        Board board = bitBoard.toBoard();
+        MovabilityTracker movabilityTracker = new MovabilityTracker(board);
+        MoveGenerator moveGenerator = new MoveGenerator();
+        MoveList moves = new MoveList();
+        SplittableRandom random = new SplittableRandom(7);
+
+        for (int ply = 0; ply < 60 && moveGenerator.generate(bitBoard, moves) > 0; ply++) {
+            int index = random.nextInt(moves.size());
+            List<BlackTile> steps = moves.getSteps(index, board);
+            Move move = new Move(board, steps.get(0).getPiece(), steps.get(0), steps.get(steps.size() - 1), steps);
+            move.make();
+            movabilityTracker.update(move.getTouchedTiles());
+            moves.makeMove(bitBoard, index);
+
+            MovabilityTracker fullScan = new MovabilityTracker(board);
+            Assertions.assertEquals(fullScan.getMovableCount(PieceColor.WHITE),
+                    movabilityTracker.getMovableCount(PieceColor.WHITE));
+            Assertions.assertEquals(fullScan.getMovableCount(PieceColor.BLACK),
+                    movabilityTracker.getMovableCount(PieceColor.BLACK));
+        }
+    }
+
+}
@@ -0,0 +1,102 @@
+package it.units.italiandraughts.logic;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.SplittableRandom;
+
+public class MoveEncodingTest {
+
+    private final MoveGenerator moveGenerator = new MoveGenerator();
+    private final MoveList moves = new MoveList();
+
+    @Test
+    void simpleMove() {
+        moveGenerator.generate(BitBoard.fromFen("W:W22:B1"), moves);
+        long move = moves.getMove(0);
+
+        Assertions.assertEquals(21, MoveEncoding.getFrom(move));
+        Assertions.assertEquals(2, MoveEncoding.getStepCount(move));
+        Assertions.assertFalse(MoveEncoding.isCapture(move));
+        Assertions.assertEquals("22-18", MoveEncoding.toNotation(move));
+    }
+
+    @Test
+    void multipleCapture() {
+        BitBoard bitBoard = new BitBoard();
+        bitBoard.placePiece(BitBoard.squareIndex(6, 6), PieceColor.WHITE, PieceType.MAN);
+        bitBoard.placePiece(BitBoard.squareIndex(5, 5), PieceColor.BLACK, PieceType.MAN);
+        bitBoard.placePiece(BitBoard.squareIndex(3, 3), PieceColor.BLACK, PieceType.MAN);
+
+        Assertions.assertEquals(1, moveGenerator.generate(bitBoard, moves));
+        long move = moves.getMove(0);
+
+        Assertions.assertArrayEquals(new int[]{BitBoard.squareIndex(6, 6), BitBoard.squareIndex(4, 4),
+                BitBoard.squareIndex(2, 2)}, MoveEncoding.getPath(move));
+        Assertions.assertEquals(1 << BitBoard.squareIndex(5, 5) | 1 << BitBoard.squareIndex(3, 3),
+                MoveEncoding.getCaptured(move));
+        Assertions.assertEquals(BitBoard.squareIndex(2, 2), MoveEncoding.getTo(move));
+    }
+
+    @Test
+    void promotionFlag() {
+        moveGenerator.generate(BitBoard.fromFen("W:W5:B32"), moves);
+
+        Assertions.assertTrue(MoveEncoding.isPromotion(moves.getMove(0)));
+        Assertions.assertNotEquals(MoveEncoding.NONE, moves.getMove(0));
+    }
+
+    @Test
+    void makeAndUndoOnBitBoard() {
+        BitBoard bitBoard = BitBoard.fromFen("W:WK18:B14,K15");
+        BitBoard before = new BitBoard(bitBoard);
+        moveGenerator.generate(bitBoard, moves);
+        long move = moves.getMove(0);
+
+        int capturedKings = bitBoard.makeMove(move);
+        bitBoard.undoMove(move, capturedKings);
+
+        Assertions.assertEquals(before, bitBoard);
+        Assertions.assertEquals(before.getZobristKey(), bitBoard.getZobristKey());
+    }
+
+    @Test
+    void decodeOnBoard() {
+        Board board = BitBoard.fromFen("W:W22:B1").toBoard();
+        moveGenerator.generate(BitBoard.fromBoard(board, PieceColor.WHITE), moves);
+
+        Move move = new Move(board, moves.getMove(0));
+        List<BlackTile> steps = moves.getSteps(0, board);
+        move.make();
+
+        Assertions.assertTrue(steps.get(0).isEmpty());
+        Assertions.assertFalse(steps.get(1).isEmpty());
+    }
+
+    @Test
+    void keysTellLegalMovesApart() {
+        SplittableRandom random = new SplittableRandom(3);
+        for (int game = 0; game < 200; game++) {
+            BitBoard bitBoard = BitBoard.initial();
+            for (int ply = 0; ply < 120 && moveGenerator.generate(bitBoard, moves) > 0; ply++) {
+                for (int i = 0; i < moves.size(); i++) {
+                    Assertions.assertTrue(moves.getKey(i) > 0);
+                    Assertions.assertEquals(i, moves.indexOf(moves.getKey(i)));
+                }
+                moves.makeMove(bitBoard, random.nextInt(moves.size()));
+            }
+        }
+    }
+
+    @Test
+    void simpleMoveAndCaptureKeysDiffer() {
+        moveGenerator.generate(BitBoard.fromFen("W:W22:B1"), moves);
+        int simpleKey = moves.getKey(0);
+        moveGenerator.generate(BitBoard.fromFen("W:W22:B18"), moves);
+
+        Assertions.assertEquals(21, moves.getFrom(0));
+        Assertions.assertNotEquals(simpleKey, moves.getKey(0));
+    }
+
+}
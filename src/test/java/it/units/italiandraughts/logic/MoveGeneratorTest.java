@@ -0,0 +1,211 @@
+package it.units.italiandraughts.logic;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+public class MoveGeneratorTest {
+
+    private final MoveGenerator moveGenerator = new MoveGenerator();
+    private final MoveList moves = new MoveList();
+
+    private static int square(int x, int y) {
+        return BitBoard.squareIndex(x, y);
+    }
+
+    @Test
+    void initialPositionWhite() {
+        Assertions.assertEquals(7, moveGenerator.generate(BitBoard.initial(), moves));
+        for (int i = 0; i < moves.size(); i++) {
+            Assertions.assertFalse(moves.isCapture(i));
+            Assertions.assertEquals(5, BitBoard.getY(moves.getFrom(i)));
+        }
+    }
+
+    @Test
+    void initialPositionBlack() {
+        BitBoard bitBoard = BitBoard.initial();
+        bitBoard.setSideToMove(PieceColor.BLACK);
+
+        Assertions.assertEquals(7, moveGenerator.generate(bitBoard, moves));
+    }
+
+    @Test
+    void captureIsMandatory() {
+        BitBoard bitBoard = new BitBoard();
+        bitBoard.placePiece(square(4, 4), PieceColor.WHITE, PieceType.MAN);
+        bitBoard.placePiece(square(0, 6), PieceColor.WHITE, PieceType.MAN);
+        bitBoard.placePiece(square(3, 3), PieceColor.BLACK, PieceType.MAN);
+
+        Assertions.assertEquals(1, moveGenerator.generate(bitBoard, moves));
+        Assertions.assertEquals(square(4, 4), moves.getFrom(0));
+        Assertions.assertEquals(square(2, 2), moves.getTo(0));
+        Assertions.assertEquals(1 << square(3, 3), moves.getCaptured(0));
+    }
+
+    @Test
+    void manCannotCaptureKing() {
+        BitBoard bitBoard = new BitBoard();
+        bitBoard.placePiece(square(4, 4), PieceColor.WHITE, PieceType.MAN);
+        bitBoard.placePiece(square(3, 3), PieceColor.BLACK, PieceType.KING);
+
+        Assertions.assertEquals(1, moveGenerator.generate(bitBoard, moves));
+        Assertions.assertFalse(moves.isCapture(0));
+        Assertions.assertEquals(square(5, 3), moves.getTo(0));
+    }
+
+    @Test
+    void manCannotCaptureBackwards() {
+        BitBoard bitBoard = new BitBoard();
+        bitBoard.placePiece(square(2, 2), PieceColor.WHITE, PieceType.MAN);
+        bitBoard.placePiece(square(3, 3), PieceColor.BLACK, PieceType.MAN);
+
+        moveGenerator.generate(bitBoard, moves);
+
+        for (int i = 0; i < moves.size(); i++) {
+            Assertions.assertFalse(moves.isCapture(i));
+        }
+    }
+
+    @Test
+    void longestCaptureSequenceWins() {
+        BitBoard bitBoard = new BitBoard();
+        bitBoard.placePiece(square(6, 6), PieceColor.WHITE, PieceType.MAN);
+        bitBoard.placePiece(square(5, 5), PieceColor.BLACK, PieceType.MAN);
+        bitBoard.placePiece(square(3, 3), PieceColor.BLACK, PieceType.MAN);
+        bitBoard.placePiece(square(2, 6), PieceColor.WHITE, PieceType.MAN);
+        bitBoard.placePiece(square(1, 5), PieceColor.BLACK, PieceType.MAN);
+
+        Assertions.assertEquals(1, moveGenerator.generate(bitBoard, moves));
+        Assertions.assertEquals(3, moves.getStepCount(0));
+        Assertions.assertEquals(square(2, 2), moves.getTo(0));
+        Assertions.assertEquals(square(4, 4), moves.getStep(0, 1));
+    }
+
+    @Test
+    void capturingWithKingWins() {
+        BitBoard bitBoard = new BitBoard();
+        bitBoard.placePiece(square(4, 4), PieceColor.WHITE, PieceType.KING);
+        bitBoard.placePiece(square(3, 3), PieceColor.BLACK, PieceType.MAN);
+        bitBoard.placePiece(square(2, 6), PieceColor.WHITE, PieceType.MAN);
+        bitBoard.placePiece(square(1, 5), PieceColor.BLACK, PieceType.MAN);
+
+        Assertions.assertEquals(1, moveGenerator.generate(bitBoard, moves));
+        Assertions.assertEquals(square(4, 4), moves.getFrom(0));
+    }
+
+    @Test
+    void earliestKingCapturedWins() {
+        BitBoard bitBoard = new BitBoard();
+        bitBoard.placePiece(square(4, 4), PieceColor.WHITE, PieceType.KING);
+        bitBoard.placePiece(square(3, 3), PieceColor.BLACK, PieceType.KING);
+        bitBoard.placePiece(square(1, 1), PieceColor.BLACK, PieceType.MAN);
+        bitBoard.placePiece(square(5, 3), PieceColor.BLACK, PieceType.MAN);
+        bitBoard.placePiece(square(5, 1), PieceColor.BLACK, PieceType.KING);
+
+        Assertions.assertEquals(1, moveGenerator.generate(bitBoard, moves));
+        Assertions.assertEquals(square(2, 2), moves.getStep(0, 1));
+        Assertions.assertEquals(square(0, 0), moves.getTo(0));
+    }
+
+    @Test
+    void precedenceRulesInOrder() {
+        Assertions.assertTrue(MoveGenerator.precedence(3, false, 0, -1) > MoveGenerator.precedence(2, true, 2, 0));
+        Assertions.assertTrue(MoveGenerator.precedence(2, true, 0, -1) > MoveGenerator.precedence(2, false, 0, -1));
+        Assertions.assertTrue(MoveGenerator.precedence(4, true, 3, 1) > MoveGenerator.precedence(4, true, 2, 0));
+        Assertions.assertTrue(MoveGenerator.precedence(4, true, 1, 0) > MoveGenerator.precedence(4, true, 1, 3));
+        Assertions.assertEquals(MoveGenerator.precedence(2, true, 1, 1), MoveGenerator.precedence(2, true, 1, 1));
+    }
+
+    @Test
+    void promotionEndsCapture() {
+        BitBoard bitBoard = new BitBoard();
+        bitBoard.placePiece(square(4, 2), PieceColor.WHITE, PieceType.MAN);
+        bitBoard.placePiece(square(3, 1), PieceColor.BLACK, PieceType.MAN);
+        bitBoard.placePiece(square(1, 1), PieceColor.BLACK, PieceType.MAN);
+
+        Assertions.assertEquals(1, moveGenerator.generate(bitBoard, moves));
+        Assertions.assertEquals(square(2, 0), moves.getTo(0));
+        Assertions.assertEquals(1 << square(3, 1), moves.getCaptured(0));
+        Assertions.assertTrue(moves.isPromotion(0));
+    }
+
+    @Test
+    void makeAndUndoMove() {
+        BitBoard bitBoard = new BitBoard();
+        bitBoard.placePiece(square(4, 2), PieceColor.WHITE, PieceType.MAN);
+        bitBoard.placePiece(square(3, 1), PieceColor.BLACK, PieceType.KING);
+        bitBoard.placePiece(square(5, 1), PieceColor.BLACK, PieceType.MAN);
+        BitBoard expected = new BitBoard(bitBoard);
+
+        Assertions.assertEquals(1, moveGenerator.generate(bitBoard, moves));
+        moves.makeMove(bitBoard, 0);
+
+        Assertions.assertEquals(1 << square(6, 0), bitBoard.getWhiteKings());
+        Assertions.assertEquals(0, bitBoard.getBlackMen());
+        Assertions.assertFalse(bitBoard.isWhiteToMove());
+
+        moves.undoMove(bitBoard, 0);
+        Assertions.assertEquals(expected, bitBoard);
+    }
+
+    @Test
+    void stepsMatchBoardTiles() {
+        BitBoard bitBoard = BitBoard.initial();
+        Board board = bitBoard.toBoard();
+
+        moveGenerator.generate(bitBoard, moves);
+
+        Assertions.assertEquals(board.getTiles()[5][1], moves.getSteps(0, board).get(0));
+    }
+
+    private static List<String> notations(MoveList moves) {
+        List<String> notations = new ArrayList<>();
+        for (int i = 0; i < moves.size(); i++) {
+            notations.add(moves.toNotation(i));
+        }
+        return notations;
+    }
+
+    @Test
+    void concurrentGenerationLeavesPositionsUntouched() throws Exception {
+        List<BitBoard> positions = new ArrayList<>();
+        List<List<String>> expected = new ArrayList<>();
+        List<String> fens = new ArrayList<>();
+        SplittableRandom random = new SplittableRandom(13);
+        BitBoard bitBoard = BitBoard.initial();
+        while (positions.size() < 200) {
+            if (moveGenerator.generate(bitBoard, moves) == 0) {
+                bitBoard = BitBoard.initial();
+                continue;
+            }
+            positions.add(new BitBoard(bitBoard));
+            fens.add(bitBoard.toFen());
+            expected.add(notations(moves));
+            moves.makeMove(bitBoard, random.nextInt(moves.size()));
+        }
+
+        ExecutorService executor = Executors.newFixedThreadPool(4);
+        try {
+            List<Future<List<String>>> results = new ArrayList<>();
+            for (BitBoard position : positions) {
+                results.add(executor.submit(() -> notations(MoveGenerator.generateLegalMoves(position))));
+            }
+            for (int i = 0; i < positions.size(); i++) {
+                Assertions.assertEquals(expected.get(i), results.get(i).get());
+            }
+        } finally {
+            executor.shutdown();
+        }
+        for (int i = 0; i < positions.size(); i++) {
+            Assertions.assertEquals(fens.get(i), positions.get(i).toFen());
+        }
+    }
+
+}
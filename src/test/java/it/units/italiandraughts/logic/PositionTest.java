@@ -0,0 +1,40 @@
+package it.units.italiandraughts.logic;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+public class PositionTest {
+
+    @Test
+    void equalContentsAreEqual() {
+        Position position = Position.fromFen("B:W18,K22:B1,K2");
+
+        Assertions.assertEquals(position, Position.fromFen(position.toFen()));
+        Assertions.assertEquals(position.hashCode(), Position.fromFen(position.toFen()).hashCode());
+        Assertions.assertNotEquals(position, Position.fromFen("W:W18,K22:B1,K2"));
+    }
+
+    @Test
+    void boardRoundTrip() {
+        Position position = Position.fromFen("B:W18,K22,23:BK1,2,3");
+
+        Board board = position.toBoard();
+
+        Assertions.assertEquals(position, Position.of(board, PieceColor.BLACK));
+        Assertions.assertEquals(PieceColor.BLACK, position.getSideToMove());
+    }
+
+    @Test
+    void zobristKeyMatchesBitBoard() {
+        BitBoard bitBoard = BitBoard.initial();
+
+        Assertions.assertEquals(bitBoard.getZobristKey(), Position.of(bitBoard).getZobristKey());
+        Assertions.assertEquals(Position.initial(), Position.of(bitBoard));
+    }
+
+    @Test
+    void overlappingPieces() {
+        Assertions.assertThrows(IllegalArgumentException.class, () -> new Position(1, 0, 1, 0, true));
+    }
+
+}
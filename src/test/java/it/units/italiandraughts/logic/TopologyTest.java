@@ -0,0 +1,41 @@
+package it.units.italiandraughts.logic;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+public class TopologyTest {
+
+    @Test
+    void neighborsOfCorner() {
+        int corner = BitBoard.squareIndex(0, 0);
+
+        Assertions.assertEquals(BitBoard.squareIndex(1, 1), Topology.getNeighbor(corner, Topology.BOTTOM_RIGHT));
+        Assertions.assertEquals(-1, Topology.getNeighbor(corner, Topology.TOP_LEFT));
+        Assertions.assertEquals(-1, Topology.getNeighbor(corner, Topology.BOTTOM_LEFT));
+    }
+
+    @Test
+    void jumpLanding() {
+        int square = BitBoard.squareIndex(4, 4);
+
+        Assertions.assertEquals(BitBoard.squareIndex(2, 2), Topology.getJump(square, Topology.TOP_LEFT));
+        Assertions.assertEquals(BitBoard.squareIndex(6, 6), Topology.getJump(square, Topology.BOTTOM_RIGHT));
+        Assertions.assertEquals(-1, Topology.getJump(BitBoard.squareIndex(6, 6), Topology.BOTTOM_RIGHT));
+    }
+
+    @Test
+    void directionBetweenSquares() {
+        int square = BitBoard.squareIndex(3, 3);
+
+        Assertions.assertEquals(Topology.TOP_RIGHT, Topology.getDirection(square, BitBoard.squareIndex(4, 2)));
+        Assertions.assertEquals(-1, Topology.getDirection(square, BitBoard.squareIndex(5, 5)));
+        Assertions.assertEquals("topRight", Topology.getDirectionName(Topology.TOP_RIGHT));
+    }
+
+    @Test
+    void promotionMasks() {
+        Assertions.assertEquals(0xf, Topology.getPromotionMask(PieceColor.WHITE));
+        Assertions.assertEquals(0xf0000000, Topology.getPromotionMask(PieceColor.BLACK));
+    }
+
+}
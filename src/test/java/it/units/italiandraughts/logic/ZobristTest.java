@@ -0,0 +1,76 @@
+package it.units.italiandraughts.logic;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Random;
+
+public class ZobristTest {
+
+    @Test
+    void sideToMoveChangesKey() {
+        BitBoard white = BitBoard.initial();
+        BitBoard black = BitBoard.initial();
+        black.setSideToMove(PieceColor.BLACK);
+
+        Assertions.assertEquals(white.getZobristKey() ^ Zobrist.getSideKey(), black.getZobristKey());
+    }
+
+    @Test
+    void bitBoardKeyMatchesBoardKey() {
+        BitBoard bitBoard = BitBoard.initial();
+        Board board = bitBoard.toBoard();
+
+        Assertions.assertEquals(bitBoard.getZobristKey(), board.getZobristKey());
+    }
+
+    @Test
+    void incrementalKeyMatchesFullHash() {
+        MoveGenerator moveGenerator = new MoveGenerator();
+        MoveList[] moves = new MoveList[40];
+        int[] played = new int[moves.length];
+        BitBoard bitBoard = BitBoard.initial();
+        Random random = new Random(42);
+        int ply = 0;
+        while (ply < moves.length) {
+            moves[ply] = new MoveList();
+            if (moveGenerator.generate(bitBoard, moves[ply]) == 0) {
+                break;
+            }
+            played[ply] = random.nextInt(moves[ply].size());
+            moves[ply].makeMove(bitBoard, played[ply]);
+            Assertions.assertEquals(Zobrist.hash(bitBoard), bitBoard.getZobristKey());
+            ply++;
+        }
+        while (ply > 0) {
+            ply--;
+            moves[ply].undoMove(bitBoard, played[ply]);
+            Assertions.assertEquals(Zobrist.hash(bitBoard), bitBoard.getZobristKey());
+        }
+        Assertions.assertEquals(BitBoard.initial().getZobristKey(), bitBoard.getZobristKey());
+    }
+
+    @Test
+    void moveUpdatesBoardKey() {
+        BitBoard bitBoard = new BitBoard();
+        bitBoard.placePiece(BitBoard.squareIndex(4, 2), PieceColor.WHITE, PieceType.MAN);
+        bitBoard.placePiece(BitBoard.squareIndex(5, 1), PieceColor.BLACK, PieceType.MAN);
+        Board board = bitBoard.toBoard();
+        long initialKey = board.getZobristKey();
+        BlackTile source = BlackTile.asBlackTile(board.getTiles()[2][4]);
+        BlackTile destination = BlackTile.asBlackTile(board.getTiles()[0][6]);
+        Move move = new Move(board, source.getPiece(), source, destination, List.of(source, destination));
+
+        move.make();
+        bitBoard.makeMove(BitBoard.squareIndex(4, 2), BitBoard.squareIndex(6, 0),
+                1 << BitBoard.squareIndex(5, 1), true);
+
+        Assertions.assertTrue(move.hasPromoted());
+        Assertions.assertEquals(bitBoard.getZobristKey(), board.getZobristKey());
+
+        move.undo();
+        Assertions.assertEquals(initialKey, board.getZobristKey());
+    }
+
+}
@@ -0,0 +1,111 @@
+package it.units.italiandraughts.pdn;
+
+import it.units.italiandraughts.exception.InvalidPdnException;
+import it.units.italiandraughts.logic.MoveEncoding;
+import it.units.italiandraughts.logic.Position;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.io.StringReader;
+import java.util.Arrays;
+import java.util.List;
+import java.util.stream.Collectors;
+
+public class PdnReaderTest {
+
+    private static final String GAMES = """
+            [Event "Club championship"]
+            [White "Rossi"]
+            [Black "Bianchi"]
+            [Result "0-1"]
+
+            1. 22-18 {an opening} 11-14 2. 18x11 ( 2. 21-17 ; unsound
+            8-11 ) 7x14 $1
+            3. 21-17! 0-1
+
+            [Event "Endgame study"]
+            [FEN "W:WK22:B18,K15"]
+
+            1. 22x13 *
+            """;
+
+    @Test
+    void readsGamesOneAtATime() throws IOException {
+        try (PdnReader reader = new PdnReader(new StringReader(GAMES))) {
+            PdnGame first = reader.next();
+            PdnGame second = reader.next();
+
+            Assertions.assertEquals("Rossi", first.getTag("White"));
+            Assertions.assertEquals("0-1", first.getResult());
+            Assertions.assertEquals(List.of("22-18", "11-14", "18x11", "7x14", "21-17"),
+                    notations(first));
+            Assertions.assertEquals(Position.initial(), first.getStartPosition());
+
+            Assertions.assertEquals(Position.fromFen("W:WK22:B18,K15"), second.getStartPosition());
+            Assertions.assertEquals(1, second.getMoveCount());
+            Assertions.assertEquals(PdnGame.UNKNOWN_RESULT, second.getResult());
+            Assertions.assertNull(reader.next());
+        }
+    }
+
+    @Test
+    void shortCaptureNotation() throws IOException {
+        String pdn = "[FEN \"W:W31:B27,19\"]\n1. 31x15 *";
+        try (PdnReader reader = new PdnReader(new StringReader(pdn))) {
+            PdnGame game = reader.next();
+
+            Assertions.assertEquals("31x22x15", MoveEncoding.toNotation(game.getMove(0)));
+        }
+    }
+
+    @Test
+    void streamsAllGames() {
+        PdnReader reader = new PdnReader(new StringReader(GAMES + GAMES + GAMES));
+
+        Assertions.assertEquals(6, reader.games().count());
+    }
+
+    @Test
+    void illegalMove() {
+        PdnReader reader = new PdnReader(new StringReader("1. 22-18 11-15 2. 22-17 *"));
+
+        InvalidPdnException exception = Assertions.assertThrows(InvalidPdnException.class, reader::next);
+        Assertions.assertTrue(exception.getMessage().startsWith("Game 1, line 1"));
+    }
+
+    @Test
+    void skipsBrokenGames() throws IOException {
+        String broken = """
+                [Event unquoted]
+                [Round "1"]
+
+                1. 22-18 11-14 *
+
+                [Round "2"]
+
+                1. 22-18 ( 1. 21-17 11-14
+                [Round "3"]
+
+                1. 22-18 *
+                """;
+        try (PdnReader reader = new PdnReader(new StringReader(broken))) {
+            Assertions.assertThrows(InvalidPdnException.class, reader::nextRaw);
+            reader.skipToNextGame();
+            Assertions.assertThrows(InvalidPdnException.class, reader::nextRaw);
+            reader.skipToNextGame();
+            RawPdnGame third = reader.nextRaw();
+
+            Assertions.assertEquals("3", third.validate().getTag("Round"));
+            Assertions.assertEquals(3, third.getNumber());
+            Assertions.assertNull(reader.nextRaw());
+        }
+    }
+
+    private static List<String> notations(PdnGame game) {
+        return Arrays.stream(game.getMoves())
+                .mapToObj(MoveEncoding::toNotation)
+                .collect(Collectors.toList());
+    }
+
+}
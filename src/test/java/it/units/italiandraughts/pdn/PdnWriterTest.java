@@ -0,0 +1,52 @@
+package it.units.italiandraughts.pdn;
+
+import it.units.italiandraughts.logic.Position;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.io.StringReader;
+import java.io.StringWriter;
+import java.util.Map;
+
+public class PdnWriterTest {
+
+    private static PdnGame randomGame(Position start, long seed) {
+        return RandomGames.randomGame(start, seed, 80, Map.of("Event", "Random \"test\""), "1-1");
+    }
+
+    @Test
+    void roundTrip() throws IOException {
+        PdnGame[] games = {randomGame(Position.initial(), 1), randomGame(Position.initial(), 2),
+                randomGame(Position.fromFen("B:W18,21,K30:B1,5,K9"), 3)};
+        StringWriter output = new StringWriter();
+        try (PdnWriter writer = new PdnWriter(output)) {
+            for (PdnGame game : games) {
+                writer.write(game);
+            }
+        }
+
+        try (PdnReader reader = new PdnReader(new StringReader(output.toString()))) {
+            for (PdnGame game : games) {
+                PdnGame read = reader.next();
+                Assertions.assertArrayEquals(game.getMoves(), read.getMoves());
+                Assertions.assertEquals(game.getStartPosition(), read.getStartPosition());
+                Assertions.assertEquals("Random \"test\"", read.getTag("Event"));
+                Assertions.assertEquals("1-1", read.getResult());
+            }
+            Assertions.assertNull(reader.next());
+        }
+    }
+
+    @Test
+    void linesAreWrapped() throws IOException {
+        StringWriter output = new StringWriter();
+        try (PdnWriter writer = new PdnWriter(output)) {
+            writer.write(randomGame(Position.initial(), 4));
+        }
+
+        Assertions.assertTrue(output.toString().lines().allMatch(line -> line.length() <= 80));
+        Assertions.assertTrue(output.toString().contains("[GameType \"22\"]"));
+    }
+
+}
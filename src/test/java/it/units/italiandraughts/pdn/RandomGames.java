@@ -0,0 +1,38 @@
+package it.units.italiandraughts.pdn;
+
+import it.units.italiandraughts.logic.BitBoard;
+import it.units.italiandraughts.logic.MoveGenerator;
+import it.units.italiandraughts.logic.MoveList;
+import it.units.italiandraughts.logic.Position;
+
+import java.util.Arrays;
+import java.util.Map;
+import java.util.SplittableRandom;
+
+/**
+ * Reproducible games of random legal moves for tests.
+ */
+public final class RandomGames {
+
+    private RandomGames() {
+    }
+
+    /**
+     * @return a game of up to maxPlies random moves from start, ending early if the side to move cannot move
+     */
+    public static PdnGame randomGame(Position start, long seed, int maxPlies, Map<String, String> tags,
+                                     String result) {
+        MoveGenerator moveGenerator = new MoveGenerator();
+        MoveList moves = new MoveList();
+        SplittableRandom random = new SplittableRandom(seed);
+        BitBoard bitBoard = start.toBitBoard();
+        long[] played = new long[maxPlies];
+        int count = 0;
+        while (count < played.length && moveGenerator.generate(bitBoard, moves) > 0) {
+            played[count] = moves.getMove(random.nextInt(moves.size()));
+            bitBoard.makeMove(played[count++]);
+        }
+        return new PdnGame(tags, start, Arrays.copyOf(played, count), result);
+    }
+
+}
@@ -0,0 +1,118 @@
+package it.units.italiandraughts.tablebase;
+
+import it.units.italiandraughts.logic.BitBoard;
+import it.units.italiandraughts.logic.MoveGenerator;
+import it.units.italiandraughts.logic.MoveList;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.DataInputStream;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Map;
+
+public class TablebaseGeneratorTest {
+
+    private static final Map<Material, byte[]> tables = solve();
+
+    private static Map<Material, byte[]> solve() {
+        TablebaseGenerator generator = new TablebaseGenerator(3, 4);
+        Map<Material, byte[]> tables = generator.solve();
+        generator.shutdown();
+        return tables;
+    }
+
+    private static int getValue(BitBoard position) {
+        if ((position.isWhiteToMove() ? position.getWhitePieces() : position.getBlackPieces()) == 0) {
+            return TablebaseFormat.encode(0);
+        }
+        Material material = Material.of(position);
+        return tables.get(material)[TablebaseIndex.index(position, material)] & 0xff;
+    }
+
+    @Test
+    void slicesAreOrderedByDependency() {
+        List<Material> slices = TablebaseGenerator.getSlices(3);
+
+        Assertions.assertEquals(4 + 12, slices.size());
+        Assertions.assertEquals(new Material(0, 1, 0, 1), slices.get(0));
+        Assertions.assertTrue(slices.indexOf(new Material(0, 2, 0, 1)) < slices.indexOf(new Material(1, 1, 0, 1)));
+    }
+
+    @Test
+    void capturesAreForced() {
+        Assertions.assertEquals(TablebaseFormat.encode(1), getValue(BitBoard.fromFen("W:WK22:B18")));
+        Assertions.assertEquals(TablebaseFormat.encode(1), getValue(BitBoard.fromFen("B:W22:BK18")));
+    }
+
+    @Test
+    void menCannotCaptureKings() {
+        Assertions.assertFalse(TablebaseFormat.isWin(getValue(BitBoard.fromFen("W:W22:BK18"))));
+    }
+
+    @Test
+    void valuesAgreeWithTheirChildren() {
+        MoveList moves = new MoveList();
+        MoveGenerator moveGenerator = new MoveGenerator();
+        for (Map.Entry<Material, byte[]> table : tables.entrySet()) {
+            for (int index = 0; index < table.getValue().length; index++) {
+                BitBoard position = TablebaseIndex.decode(table.getKey(), index);
+                if (position == null) {
+                    continue;
+                }
+                int shortestWin = Integer.MAX_VALUE;
+                int longestLoss = -1;
+                boolean allChildrenWon = true;
+                for (int i = 0; i < moveGenerator.generate(position, moves); i++) {
+                    moves.makeMove(position, i);
+                    int value = getValue(position);
+                    moves.undoMove(position, i);
+                    if (TablebaseFormat.isLoss(value)) {
+                        shortestWin = Math.min(shortestWin, TablebaseFormat.getDistance(value) + 1);
+                    } else if (TablebaseFormat.isWin(value)) {
+                        longestLoss = Math.max(longestLoss, TablebaseFormat.getDistance(value) + 1);
+                    } else {
+                        allChildrenWon = false;
+                    }
+                }
+                int expected = shortestWin != Integer.MAX_VALUE ? TablebaseFormat.encode(shortestWin)
+                        : allChildrenWon ? TablebaseFormat.encode(Math.max(0, longestLoss))
+                        : TablebaseFormat.DRAW_VALUE;
+                Assertions.assertEquals(expected, table.getValue()[index] & 0xff, position.toFen());
+            }
+        }
+    }
+
+    @Test
+    void fileHasADirectoryOfBlocks(@TempDir Path directory) throws IOException {
+        Path path = directory.resolve("tablebase.itb");
+        TablebaseGenerator generator = new TablebaseGenerator(2, 2);
+        generator.generate(path, false);
+        generator.shutdown();
+
+        List<Material> slices = List.of(new Material(0, 1, 0, 1), new Material(0, 1, 1, 0), new Material(1, 0, 1, 0));
+        try (DataInputStream input = new DataInputStream(Files.newInputStream(path))) {
+            Assertions.assertEquals(TablebaseFormat.MAGIC, input.readInt());
+            Assertions.assertEquals(0, input.readInt());
+            Assertions.assertEquals(TablebaseFormat.BLOCK_SIZE, input.readInt());
+            Assertions.assertEquals(slices.size(), input.readInt());
+            for (int slice = 0; slice < slices.size(); slice++) {
+                Assertions.assertEquals(slices.get(slice), new Material(input.readByte(), input.readByte(),
+                        input.readByte(), input.readByte()));
+                Assertions.assertEquals(TablebaseIndex.size(slices.get(slice)), input.readInt());
+                Assertions.assertEquals(slice, input.readInt());
+            }
+            Assertions.assertEquals(slices.size(), input.readInt());
+            long[] offsets = new long[slices.size() + 1];
+            for (int block = 0; block < offsets.length; block++) {
+                offsets[block] = input.readLong();
+            }
+            Assertions.assertEquals(4 * 4 + slices.size() * 12 + 4 + offsets.length * 8, offsets[0]);
+            Assertions.assertEquals(Files.size(path), offsets[slices.size()]);
+        }
+    }
+
+}
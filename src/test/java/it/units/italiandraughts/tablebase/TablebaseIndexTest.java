@@ -0,0 +1,47 @@
+package it.units.italiandraughts.tablebase;
+
+import it.units.italiandraughts.logic.BitBoard;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+public class TablebaseIndexTest {
+
+    private static int countPositions(Material material) {
+        int valid = 0;
+        for (int index = 0; index < TablebaseIndex.size(material); index++) {
+            BitBoard position = TablebaseIndex.decode(material, index);
+            if (position != null) {
+                Assertions.assertEquals(material, Material.of(position));
+                Assertions.assertEquals(index, TablebaseIndex.index(position, material));
+                valid++;
+            }
+        }
+        return valid;
+    }
+
+    @Test
+    void kingsAreIndexedPerfectly() {
+        Material material = new Material(0, 2, 0, 1);
+
+        Assertions.assertEquals(32 * 31 / 2 * 30 * 2, TablebaseIndex.size(material));
+        Assertions.assertEquals(TablebaseIndex.size(material), countPositions(material));
+    }
+
+    @Test
+    void onlyOverlappingMenAreUnused() {
+        Material material = new Material(1, 1, 1, 0);
+
+        // a white and a black man can both stand on the 24 squares between rows 1 and 6
+        Assertions.assertEquals((28 * 28 - 24) * 30 * 2, countPositions(material));
+    }
+
+    @Test
+    void menOnTheirLastRowAreNotIndexed() {
+        Assertions.assertEquals(28 * 2, TablebaseIndex.size(new Material(1, 0, 0, 0)));
+        BitBoard position = TablebaseIndex.decode(new Material(1, 0, 1, 0), 0);
+
+        Assertions.assertEquals(1 << 4, position.getWhiteMen());
+        Assertions.assertEquals(1, position.getBlackMen());
+    }
+
+}
@@ -0,0 +1,120 @@
+package it.units.italiandraughts.tablebase;
+
+import it.units.italiandraughts.engine.Engine;
+import it.units.italiandraughts.engine.SearchResult;
+import it.units.italiandraughts.engine.TranspositionTable;
+import it.units.italiandraughts.logic.BitBoard;
+import it.units.italiandraughts.logic.KnownResult;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.Map;
+
+public class TablebaseTest {
+
+    private static final Map<Material, byte[]> tables;
+
+    static {
+        TablebaseGenerator generator = new TablebaseGenerator(3, 2);
+        tables = generator.solve();
+        generator.shutdown();
+    }
+
+    private static Path generate(Path directory, boolean distances) throws IOException {
+        Path path = directory.resolve("endgames.itb");
+        TablebaseGenerator generator = new TablebaseGenerator(3, 2);
+        try {
+            generator.generate(path, distances);
+        } finally {
+            generator.shutdown();
+        }
+        return path;
+    }
+
+    @Test
+    void probesAgreeWithTheGenerator(@TempDir Path directory) throws IOException {
+        try (Tablebase tablebase = Tablebase.open(generate(directory, true), 1)) {
+            Assertions.assertEquals(3, tablebase.getMaxPieces());
+            for (Map.Entry<Material, byte[]> table : tables.entrySet()) {
+                for (int index = 0; index < table.getValue().length; index += 7) {
+                    BitBoard position = TablebaseIndex.decode(table.getKey(), index);
+                    if (position != null) {
+                        Assertions.assertEquals(TablebaseFormat.toResult(table.getValue()[index] & 0xff, true),
+                                tablebase.probe(position), position.toFen());
+                    }
+                }
+            }
+            Assertions.assertTrue(tablebase.getCacheHitRate() > 0);
+        }
+    }
+
+    @Test
+    void flippedPositionsHaveTheSameResult() {
+        for (int index = 0; index < tables.get(new Material(1, 0, 0, 1)).length; index++) {
+            BitBoard position = TablebaseIndex.decode(new Material(1, 0, 0, 1), index);
+            BitBoard flipped = Tablebase.flip(position);
+
+            Assertions.assertEquals(new Material(0, 1, 1, 0), Material.of(flipped));
+            Assertions.assertEquals(tables.get(new Material(1, 0, 0, 1))[index],
+                    tables.get(new Material(0, 1, 1, 0))[TablebaseIndex.index(flipped, new Material(0, 1, 1, 0))]);
+        }
+    }
+
+    @Test
+    void positionsOutsideTheTablebase(@TempDir Path directory) throws IOException {
+        try (Tablebase tablebase = Tablebase.open(generate(directory, true))) {
+            Assertions.assertNull(tablebase.probe(BitBoard.initial()));
+            Assertions.assertEquals(new KnownResult(KnownResult.Outcome.LOSS, 0),
+                    tablebase.probe(BitBoard.fromFen("B:WK22:B")));
+        }
+    }
+
+    @Test
+    void enginePlaysTheFastestWin(@TempDir Path directory) throws IOException {
+        Engine engine = new Engine(new TranspositionTable(1));
+        BitBoard position = BitBoard.fromFen("W:WK1,K32:B18");
+        try (Tablebase tablebase = Tablebase.open(generate(directory, true))) {
+            engine.setTablebase(tablebase);
+            SearchResult result = engine.search(position, 10, 0);
+            KnownResult expected = tablebase.probe(position);
+            position.makeMove(result.getBestMove());
+
+            Assertions.assertEquals(KnownResult.Outcome.WIN, expected.outcome());
+            Assertions.assertEquals(Engine.WIN_SCORE - expected.distance(), result.getScore());
+            Assertions.assertEquals(0, result.getNodes());
+            Assertions.assertEquals(new KnownResult(KnownResult.Outcome.LOSS, expected.distance() - 1),
+                    tablebase.probe(position));
+        }
+    }
+
+    @Test
+    void tablebaseWinsWithoutDistanceEndTheSearch(@TempDir Path directory) throws IOException {
+        Engine engine = new Engine(new TranspositionTable(1));
+        try (Tablebase tablebase = Tablebase.open(generate(directory, false))) {
+            engine.setTablebase(tablebase);
+            SearchResult result = engine.search(BitBoard.fromFen("W:W29,32:B23"), 10, 0);
+
+            Assertions.assertEquals(1, result.getDepth());
+            Assertions.assertTrue(result.getScore() > Engine.WIN_SCORE / 4);
+        }
+    }
+
+    @Test
+    void blockCacheEvictsTheLeastRecentlyUsed() {
+        BlockCache cache = new BlockCache(2);
+        int[] loads = new int[1];
+        cache.get(1, block -> new byte[]{(byte) loads[0]++});
+        cache.get(2, block -> new byte[]{(byte) loads[0]++});
+        cache.get(1, block -> new byte[]{(byte) loads[0]++});
+        cache.get(3, block -> new byte[]{(byte) loads[0]++});
+
+        Assertions.assertEquals(2, cache.size());
+        Assertions.assertEquals(0, cache.get(1, block -> new byte[]{(byte) loads[0]++})[0]);
+        Assertions.assertEquals(3, loads[0]);
+        Assertions.assertEquals(0.4, cache.getHitRate(), 1e-9);
+    }
+
+}
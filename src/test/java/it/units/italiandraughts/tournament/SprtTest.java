@@ -0,0 +1,46 @@
+package it.units.italiandraughts.tournament;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+public class SprtTest {
+
+    @Test
+    void eloOfScore() {
+        Assertions.assertEquals(0, EloEstimate.getElo(0.5), 1e-9);
+        Assertions.assertEquals(190.85, EloEstimate.getElo(0.75), 0.01);
+        Assertions.assertEquals(0.75, EloEstimate.getExpectedScore(EloEstimate.getElo(0.75)), 1e-9);
+    }
+
+    @Test
+    void eloEstimateOfEvenMatch() {
+        EloEstimate estimate = EloEstimate.of(30, 40, 30);
+
+        Assertions.assertEquals(0, estimate.elo(), 1e-9);
+        Assertions.assertTrue(estimate.error() > 0);
+    }
+
+    @Test
+    void acceptsStrongerEngine() {
+        Sprt sprt = new Sprt(0, 10, 0.05, 0.05);
+
+        Assertions.assertEquals(Sprt.Decision.CONTINUE, sprt.getDecision(6, 8, 4));
+        Assertions.assertEquals(Sprt.Decision.ACCEPT_H1, sprt.getDecision(600, 800, 400));
+        Assertions.assertEquals(Sprt.Decision.ACCEPT_H0, sprt.getDecision(400, 800, 600));
+    }
+
+    @Test
+    void noInformationWithoutVariance() {
+        Sprt sprt = new Sprt(0, 10, 0.05, 0.05);
+
+        Assertions.assertEquals(0.0, sprt.getLlr(0, 0, 0));
+        Assertions.assertEquals(0.0, sprt.getLlr(0, 20, 0));
+    }
+
+    @Test
+    void invalidBounds() {
+        Assertions.assertThrows(IllegalArgumentException.class, () -> new Sprt(10, 0, 0.05, 0.05));
+        Assertions.assertThrows(IllegalArgumentException.class, () -> new Sprt(0, 10, 0, 0.05));
+    }
+
+}
@@ -0,0 +1,61 @@
+package it.units.italiandraughts.tournament;
+
+import it.units.italiandraughts.logic.Position;
+import it.units.italiandraughts.pdn.PdnGame;
+import it.units.italiandraughts.pdn.PdnReader;
+import it.units.italiandraughts.pdn.PdnWriter;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.stream.Collectors;
+
+public class TournamentRunnerTest {
+
+    @Test
+    void playsEveryGame(@TempDir Path directory) throws IOException {
+        Path results = directory.resolve("tournament.pdn");
+        TournamentRunner runner = new TournamentRunner(EngineSettings.parse("depth=1"),
+                EngineSettings.parse("depth=2"), List.of(Position.initial()), 2);
+        runner.setMaxPlies(40);
+
+        TournamentRunner.Result result;
+        try (PdnWriter writer = PdnWriter.create(results)) {
+            result = runner.run(4, writer, null);
+        }
+
+        Assertions.assertEquals(4, result.getGames());
+        Assertions.assertEquals(Sprt.Decision.CONTINUE, result.decision());
+        List<PdnGame> games;
+        try (PdnReader reader = PdnReader.open(results)) {
+            games = reader.games().collect(Collectors.toList());
+        }
+        Assertions.assertEquals(4, games.size());
+        for (PdnGame game : games) {
+            Assertions.assertTrue(List.of("2-0", "1-1", "0-2").contains(game.getResult()));
+            Assertions.assertTrue(game.getMoveCount() <= 40);
+            String first = EngineSettings.parse("depth=1").toString();
+            int round = Integer.parseInt(game.getTag("Round"));
+            Assertions.assertEquals(first, game.getTag(round % 2 == 1 ? "White" : "Black"));
+        }
+    }
+
+    @Test
+    void readsOpenings(@TempDir Path directory) throws IOException {
+        Path openings = directory.resolve("openings.txt");
+        Files.writeString(openings, "# balanced\n\n" + Position.initial().toFen() + "\n");
+
+        Assertions.assertEquals(List.of(Position.initial()), TournamentRunner.readOpenings(openings));
+    }
+
+    @Test
+    void needsOpenings() {
+        Assertions.assertThrows(IllegalArgumentException.class, () -> new TournamentRunner(
+                EngineSettings.parse(""), EngineSettings.parse(""), List.of(), 1));
+    }
+
+}